@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import org.assertj.core.configuration.ConfigurationScope;
 import org.assertj.core.description.Description;
 import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.error.BasicErrorMessageFactory;
@@ -75,7 +76,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   protected final SELF myself;
 
   // = ConfigurationProvider.CONFIGURATION_PROVIDER.representation(); ?
-  private static Representation customRepresentation = null;
+  private static volatile Representation customRepresentation = null;
 
   @VisibleForTesting
   AssertionErrorCreator assertionErrorCreator;
@@ -87,7 +88,8 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   public AbstractAssert(ACTUAL actual, Class<?> selfType) {
     myself = (SELF) selfType.cast(this);
     this.actual = actual;
-    info = new WritableAssertionInfo(customRepresentation);
+    ConfigurationScope scope = ConfigurationScope.current();
+    info = new WritableAssertionInfo(scope == null ? customRepresentation : scope.representation());
     assertionErrorCreator = new AssertionErrorCreator();
   }
 
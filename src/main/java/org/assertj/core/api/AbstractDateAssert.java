@@ -39,6 +39,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.assertj.core.configuration.ConfigurationScope;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Dates;
 import org.assertj.core.util.CheckReturnValue;
@@ -77,6 +78,15 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
                                                                     newIsoDateTimeFormat(),
                                                                     newIsoDateFormat());
 
+  /**
+   * Lock free parser of the strings matching exactly one of the {@link #DEFAULT_DATE_FORMATS}, it uses their time zone.
+   */
+  private static final IsoDateParser ISO_DATE_PARSER = new IsoDateParser(DEFAULT_DATE_FORMATS.get(0).getTimeZone().toZoneId(),
+                                                                         IsoDateParser.DEFAULT_CACHE_MAX_SIZE);
+
+  // lenient parsing is only supported by DEFAULT_DATE_FORMATS
+  private static volatile boolean lenientDateParsing = false;
+
   private static final String DATE_FORMAT_PATTERN_SHOULD_NOT_BE_NULL = "Given date format pattern should not be null";
   private static final String DATE_FORMAT_SHOULD_NOT_BE_NULL = "Given date format should not be null";
 
@@ -2529,8 +2539,11 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
    * @param value whether lenient parsing mode should be enabled or not
    */
   public static void setLenientDateParsing(boolean value) {
-    for (DateFormat defaultDateFormat : DEFAULT_DATE_FORMATS) {
-      defaultDateFormat.setLenient(value);
+    synchronized (DEFAULT_DATE_FORMATS) {
+      for (DateFormat defaultDateFormat : DEFAULT_DATE_FORMATS) {
+        defaultDateFormat.setLenient(value);
+      }
+      lenientDateParsing = value;
     }
   }
 
@@ -2696,20 +2709,35 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
     // no synchronization needed as userCustomDateFormat is thread local
     Date date = parseDateWith(dateAsString, userDateFormats.get());
     if (date != null) return date;
-    // no matching user date format, let's try default format
-    date = parseDateWithDefaultDateFormats(dateAsString);
+    // no matching user date format, let's try default format, the usual ISO strings don't need any lock
+    boolean lenient = isLenientDateParsing();
+    if (!lenient) date = ISO_DATE_PARSER.parse(dateAsString);
+    if (date != null) return date;
+    date = parseDateWithDefaultDateFormats(dateAsString, lenient);
     if (date != null) return date;
     // no matching date format, throw an error
     throw new AssertionError(String.format("Failed to parse %s with any of these date formats:%n   %s", dateAsString,
                                            info.representation().toStringOf(dateFormatsInOrderOfUsage())));
   }
 
-  private Date parseDateWithDefaultDateFormats(final String dateAsString) {
+  private Date parseDateWithDefaultDateFormats(final String dateAsString, boolean lenient) {
     synchronized (DEFAULT_DATE_FORMATS) {
-      return parseDateWith(dateAsString, DEFAULT_DATE_FORMATS);
+      // a configuration scope may use another parsing mode than the global one
+      if (lenient == lenientDateParsing) return parseDateWith(dateAsString, DEFAULT_DATE_FORMATS);
+      DEFAULT_DATE_FORMATS.forEach(dateFormat -> dateFormat.setLenient(lenient));
+      try {
+        return parseDateWith(dateAsString, DEFAULT_DATE_FORMATS);
+      } finally {
+        DEFAULT_DATE_FORMATS.forEach(dateFormat -> dateFormat.setLenient(lenientDateParsing));
+      }
     }
   }
 
+  private static boolean isLenientDateParsing() {
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? lenientDateParsing : scope.lenientDateParsingEnabled();
+  }
+
   private List<DateFormat> dateFormatsInOrderOfUsage() {
     List<DateFormat> allDateFormatsInOrderOfUsage = newArrayList(userDateFormats.get());
     allDateFormatsInOrderOfUsage.addAll(DEFAULT_DATE_FORMATS);
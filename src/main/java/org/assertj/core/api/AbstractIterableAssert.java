@@ -776,6 +776,30 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return myself;
   }
 
+  /**
+   * Same as {@link #usingElementComparator(Comparator)} but lets you declare that the given comparator defines a total
+   * order consistent with its equality, {@code containsOnly}, {@code containsExactlyInAnyOrder}, {@code isSubsetOf} and
+   * {@code containsExactly} then sort the actual elements instead of comparing each of them to all the others.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // persons are compared by id, a total order
+   * assertThat(persons).usingElementComparator(comparing(Person::getId), TOTAL_ORDER)
+   *                    .containsExactlyInAnyOrder(expectedPersons);</code></pre>
+   *
+   * @param elementComparator the comparator to use for incoming assertion checks.
+   * @param comparatorOrder {@link ComparatorOrder#TOTAL_ORDER} if the comparator defines a total order,
+   *          {@link ComparatorOrder#EQUALITY} is the same as {@link #usingElementComparator(Comparator)}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given comparator order is {@code null}.
+   * @since 3.13.0
+   */
+  @CheckReturnValue
+  public SELF usingElementComparator(Comparator<? super ELEMENT> elementComparator, ComparatorOrder comparatorOrder) {
+    usingElementComparator(elementComparator);
+    this.iterables = new Iterables(new ComparatorBasedComparisonStrategy(elementComparator, null, comparatorOrder));
+    return myself;
+  }
+
   @CheckReturnValue
   private SELF usingExtendedByTypesElementComparator(Comparator<Object> elementComparator) {
     return usingElementComparator(new ExtendedByTypesComparator(elementComparator, getComparatorsByType()));
@@ -1583,6 +1583,31 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
     return myself;
   }
 
+  /**
+   * Same as {@link #usingElementComparator(Comparator)} but lets you declare that the given comparator defines a total
+   * order consistent with its equality, {@code containsOnly}, {@code containsExactlyInAnyOrder}, {@code isSubsetOf} and
+   * {@code containsExactly} then sort the actual array elements instead of comparing each of them to all the others.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // persons are compared by id, a total order
+   * assertThat(personArray).usingElementComparator(comparing(Person::getId), TOTAL_ORDER)
+   *                        .containsExactlyInAnyOrder(expectedPersons);</code></pre>
+   *
+   * @param elementComparator the comparator to use for incoming assertion checks.
+   * @param comparatorOrder {@link ComparatorOrder#TOTAL_ORDER} if the comparator defines a total order,
+   *          {@link ComparatorOrder#EQUALITY} is the same as {@link #usingElementComparator(Comparator)}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given comparator order is {@code null}.
+   * @since 3.13.0
+   */
+  @CheckReturnValue
+  public SELF usingElementComparator(Comparator<? super ELEMENT> elementComparator, ComparatorOrder comparatorOrder) {
+    usingElementComparator(elementComparator);
+    this.arrays = new ObjectArrays(new ComparatorBasedComparisonStrategy(elementComparator, null, comparatorOrder));
+    this.iterables = new Iterables(new ComparatorBasedComparisonStrategy(elementComparator, null, comparatorOrder));
+    return myself;
+  }
+
   private SELF usingExtendedByTypesElementComparator(Comparator<Object> elementComparator) {
     return usingElementComparator(new ExtendedByTypesComparator(elementComparator, getComparatorsByType()));
   }
@@ -89,6 +89,7 @@ import org.assertj.core.data.TemporalUnitOffset;
 import org.assertj.core.data.TemporalUnitWithinOffset;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.presentation.BinaryRepresentation;
 import org.assertj.core.presentation.HexadecimalRepresentation;
 import org.assertj.core.presentation.Representation;
@@ -1406,6 +1407,26 @@ public class Assertions implements InstanceOfAssertFactories {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of differences reported when comparing the content of files, paths or input streams, for
+   * example with {@code hasSameContentAs}, the first differences being kept. Default is unlimited.
+   * <p>
+   * This keeps the error messages of very different contents readable, note that the contents following their common
+   * first lines are still read and compared entirely.
+   * <pre><code class='java'> Assertions.setMaxDeltasForContentDiff(10);
+   *
+   * // if the files have 500 different lines, only the first 10 differences are reported followed by
+   * // "... and 490 more differences"
+   * assertThat(actualFile).hasSameContentAs(expectedFile);</code></pre>
+   *
+   * @param maxDeltasForContentDiff the maximum number of differences reported when comparing contents.
+   * @throws IllegalArgumentException if maxDeltasForContentDiff is not strictly positive.
+   * @since 3.13.0
+   */
+  public static void setMaxDeltasForContentDiff(int maxDeltasForContentDiff) {
+    Diff.setMaxDeltasForContentDiff(maxDeltasForContentDiff);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
@@ -2753,6 +2774,32 @@ public class Assertions implements InstanceOfAssertFactories {
     return AssertionsForInterfaceTypes.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link LazyStreamAssert}</code> from the given {@link Stream}.
+   * <p>
+   * Unlike {@link #assertThat(Stream)}, the {@code Stream} under test is not converted to a {@code List}, it is consumed
+   * lazily in a single pass which allows to check very large or infinite streams. Use {@code boxed()} to check
+   * primitive streams.
+   * <p>
+   * <b>Only one assertion on the stream content can be performed</b> as it consumes the stream.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> // assertions will pass
+   * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i &gt; 1000);
+   * assertThatLazily(IntStream.range(0, 1_000_000).boxed()).hasSizeGreaterThan(1000);
+   *
+   * // assertion will fail
+   * assertThatLazily(Stream.of(1, 2, 3)).contains(4);</code></pre>
+   *
+   * @param <ELEMENT> the type of elements.
+   * @param actual the actual {@link Stream} value.
+   * @return the created assertion object.
+   * @since 3.13.0
+   */
+  public static <ELEMENT> LazyStreamAssert<ELEMENT> assertThatLazily(Stream<? extends ELEMENT> actual) {
+    return new LazyStreamAssert<>(actual);
+  }
+
   /**
    * Creates a new instance of {@link PathAssert}
    *
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.util.Comparator;
+
+/**
+ * Describes what an element comparator passed to
+ * {@link AbstractIterableAssert#usingElementComparator(Comparator, ComparatorOrder)} or
+ * {@link AbstractObjectArrayAssert#usingElementComparator(Comparator, ComparatorOrder)} can be relied upon for.
+ *
+ * @since 3.13.0
+ */
+public enum ComparatorOrder {
+
+  /**
+   * Only {@code compare(a, b) == 0} is meaningful, elements are compared to each other to find the equal ones.
+   * <p>
+   * This is the default, it suits comparators returning an arbitrary non zero value for different elements.
+   */
+  EQUALITY,
+
+  /**
+   * The comparator defines a total order consistent with its equality (like {@link Comparator#naturalOrder()} or
+   * {@code Comparator.comparing(Person::getId)}), elements can be sorted to find the equal ones.
+   * <p>
+   * Assertions like {@code containsOnly}, {@code containsExactlyInAnyOrder} or {@code isSubsetOf} then run in
+   * O(n log n) instead of O(n²), their results are unspecified if the comparator is not a total order.
+   */
+  TOTAL_ORDER
+}
@@ -14,7 +14,6 @@ package org.assertj.core.api;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -31,8 +30,9 @@ public class ErrorCollector {
 
   public static final String FIELD_NAME = "errorCollector";
 
-  private static final String INTERCEPT_METHOD_NAME = "intercept";
-  private static final String CLASS_NAME = ErrorCollector.class.getName();
+  // number of intercepted calls in progress in the current thread, more than one means that we are in a nested call
+  // (assertions calling other proxied assertions), tracked explicitly as walking the stack for each call is costly.
+  private static final ThreadLocal<int[]> PROXY_CALLS_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
 
   // scope : the current softassertion object
   private final List<Throwable> errors = new ArrayList<>();
@@ -54,23 +54,29 @@ public class ErrorCollector {
                                  @SuperCall Callable<?> proxy,
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
+    int[] proxyCallsDepth = PROXY_CALLS_DEPTH.get();
+    proxyCallsDepth[0]++;
     try {
-      Object result = proxy.call();
-      errorCollector.lastResult.setSuccess(true);
-      return result;
-    } catch (AssertionError assertionError) {
-      if (errorCollector.isNestedErrorCollectorProxyCall()) {
-        // let the most outer call handle the assertion error
-        throw assertionError;
+      try {
+        Object result = proxy.call();
+        errorCollector.lastResult.setSuccess(true);
+        return result;
+      } catch (AssertionError assertionError) {
+        if (isNestedErrorCollectorProxyCall()) {
+          // let the most outer call handle the assertion error
+          throw assertionError;
+        }
+        collectAssertionError(assertionError, errorCollector);
       }
-      collectAssertionError(assertionError, errorCollector);
-    }
-    if (method != null && !method.getReturnType().isInstance(assertion)) {
-      // In case the object is not an instance of the return type, just default value for the return type:
-      // null for reference type and 0 for the corresponding primitive types.
-      return stub;
+      if (method != null && !method.getReturnType().isInstance(assertion)) {
+        // In case the object is not an instance of the return type, just default value for the return type:
+        // null for reference type and 0 for the corresponding primitive types.
+        return stub;
+      }
+      return assertion;
+    } finally {
+      proxyCallsDepth[0]--;
     }
-    return assertion;
   }
 
   protected static void collectAssertionError(AssertionError error, ErrorCollector errorCollector) {
@@ -91,15 +97,12 @@ public class ErrorCollector {
     return lastResult.wasSuccess();
   }
 
-  private boolean isNestedErrorCollectorProxyCall() {
+  private static boolean isNestedErrorCollectorProxyCall() {
     return countErrorCollectorProxyCalls() > 1;
   }
 
-  private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
+  private static int countErrorCollectorProxyCalls() {
+    return PROXY_CALLS_DEPTH.get()[0];
   }
 
   private static class LastResult {
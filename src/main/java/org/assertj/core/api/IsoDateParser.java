@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.time.format.ResolverStyle.STRICT;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Lock free parser of the strings matching exactly one of the {@link AbstractDateAssert} default strict date formats:
+ * <ul>
+ * <li><code>yyyy-MM-dd'T'HH:mm:ss.SSSX</code></li>
+ * <li><code>yyyy-MM-dd'T'HH:mm:ss.SSS</code></li>
+ * <li><code>yyyy-MM-dd HH:mm:ss.SSS</code></li>
+ * <li><code>yyyy-MM-dd'T'HH:mm:ssX</code></li>
+ * <li><code>yyyy-MM-dd'T'HH:mm:ss</code></li>
+ * <li><code>yyyy-MM-dd</code></li>
+ * </ul>
+ * The format is chosen from the string length and separators, then the string is parsed with an immutable
+ * {@link DateTimeFormatter}, only {@code Z} and {@code ±hh} time zones are supported.
+ * <p>
+ * {@link #parse(String)} returns {@code null} whenever the {@code SimpleDateFormat}s could give a different result
+ * (other string shapes, dates before 1900, local times in a daylight saving time transition ...), the caller has then
+ * to use the {@code SimpleDateFormat}s.
+ * <p>
+ * Parsed dates are cached by their string representation, the cache is cleared when it becomes full.
+ */
+final class IsoDateParser {
+
+  @VisibleForTesting
+  static final int DEFAULT_CACHE_MAX_SIZE = 1024;
+
+  // java.util.Date uses the Julian calendar before 1582 and TimeZone ignores the local mean times of the 19th century,
+  // java.time does not
+  private static final int FIRST_YEAR_WITH_SAME_CALENDAR = 1900;
+  // strict GregorianCalendar zone offset range
+  private static final int MIN_OFFSET_HOURS = -13;
+  private static final int MAX_OFFSET_HOURS = 14;
+
+  private static final DateTimeFormatter DATE = strictFormatter("uuuu-MM-dd");
+  private static final DateTimeFormatter DATE_TIME = strictFormatter("uuuu-MM-dd'T'HH:mm:ss");
+  private static final DateTimeFormatter DATE_TIME_WITH_MS = strictFormatter("uuuu-MM-dd'T'HH:mm:ss.SSS");
+  private static final DateTimeFormatter TIMESTAMP = strictFormatter("uuuu-MM-dd HH:mm:ss.SSS");
+
+  private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+  private static final int DATE_TIME_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+  private static final int DATE_TIME_WITH_MS_LENGTH = "yyyy-MM-ddTHH:mm:ss.SSS".length();
+
+  private final ZoneId zoneId;
+  private final int cacheMaxSize;
+  private final Map<String, Long> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a parser of the dates without time zone in the given zone.
+   *
+   * @param zoneId the time zone of the dates without time zone, must be the one of the {@code SimpleDateFormat}s.
+   * @param cacheMaxSize the maximum number of cached dates.
+   */
+  IsoDateParser(ZoneId zoneId, int cacheMaxSize) {
+    checkArgument(cacheMaxSize >= 0, "The maximum size of the date cache must be positive but was %s", cacheMaxSize);
+    this.zoneId = zoneId;
+    this.cacheMaxSize = cacheMaxSize;
+  }
+
+  /**
+   * Parses the given string if it matches exactly one of the default date formats.
+   *
+   * @param dateAsString the string to parse.
+   * @return the corresponding Date or {@code null} if the string must be parsed with the {@code SimpleDateFormat}s.
+   */
+  Date parse(String dateAsString) {
+    Long cachedTime = cache.get(dateAsString);
+    if (cachedTime != null) return new Date(cachedTime);
+    Long time = parseTime(dateAsString);
+    if (time == null) return null;
+    if (cache.size() >= cacheMaxSize) cache.clear();
+    if (cacheMaxSize > 0) cache.put(dateAsString, time);
+    return new Date(time);
+  }
+
+  @VisibleForTesting
+  int cacheSize() {
+    return cache.size();
+  }
+
+  private Long parseTime(String s) {
+    if (!hasDateShape(s)) return null;
+    int length = s.length();
+    if (length == DATE_LENGTH) return toEpochMilli(parseDate(s), null);
+    if (!hasTimeShape(s)) return null;
+    boolean withMs = length >= DATE_TIME_WITH_MS_LENGTH && hasMsShape(s);
+    int zoneIndex = withMs ? DATE_TIME_WITH_MS_LENGTH : DATE_TIME_LENGTH;
+    if (s.charAt(DATE_LENGTH) == ' ') {
+      // timestamp format has no time zone
+      return withMs && length == zoneIndex ? toEpochMilli(parseDateTime(s, TIMESTAMP), null) : null;
+    }
+    if (s.charAt(DATE_LENGTH) != 'T') return null;
+    ZoneOffset offset = null;
+    if (length != zoneIndex) {
+      offset = parseOffset(s, zoneIndex);
+      if (offset == null) return null;
+      s = s.substring(0, zoneIndex);
+    }
+    return toEpochMilli(parseDateTime(s, withMs ? DATE_TIME_WITH_MS : DATE_TIME), offset);
+  }
+
+  private Long toEpochMilli(LocalDateTime localDateTime, ZoneOffset offset) {
+    if (localDateTime == null || localDateTime.getYear() < FIRST_YEAR_WITH_SAME_CALENDAR) return null;
+    if (offset == null) {
+      List<ZoneOffset> validOffsets = zoneId.getRules().getValidOffsets(localDateTime);
+      // SimpleDateFormat and java.time do not resolve gaps and overlaps the same way
+      if (validOffsets.size() != 1) return null;
+      offset = validOffsets.get(0);
+    }
+    return localDateTime.toInstant(offset).toEpochMilli();
+  }
+
+  private static LocalDateTime parseDate(String s) {
+    try {
+      return LocalDate.parse(s, DATE).atStartOfDay();
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private static LocalDateTime parseDateTime(String s, DateTimeFormatter formatter) {
+    try {
+      return LocalDateTime.parse(s, formatter);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  // SimpleDateFormat 'X' parses Z or ±hh and ignores any following minutes, only the unambiguous forms are supported
+  private static ZoneOffset parseOffset(String s, int index) {
+    int zoneLength = s.length() - index;
+    if (zoneLength == 1 && s.charAt(index) == 'Z') return ZoneOffset.UTC;
+    if (zoneLength != 3 || !isDigits(s, index + 1, index + 3)) return null;
+    char sign = s.charAt(index);
+    if (sign != '+' && sign != '-') return null;
+    int hours = Integer.parseInt(s.substring(index + 1, index + 3));
+    if (sign == '-') hours = -hours;
+    if (hours < MIN_OFFSET_HOURS || hours > MAX_OFFSET_HOURS) return null;
+    return ZoneOffset.ofHours(hours);
+  }
+
+  private static boolean hasDateShape(String s) {
+    return s.length() >= DATE_LENGTH
+           && isDigits(s, 0, 4) && s.charAt(4) == '-' && isDigits(s, 5, 7) && s.charAt(7) == '-' && isDigits(s, 8, 10);
+  }
+
+  private static boolean hasTimeShape(String s) {
+    return s.length() >= DATE_TIME_LENGTH
+           && isDigits(s, 11, 13) && s.charAt(13) == ':' && isDigits(s, 14, 16) && s.charAt(16) == ':' && isDigits(s, 17, 19);
+  }
+
+  private static boolean hasMsShape(String s) {
+    return s.charAt(DATE_TIME_LENGTH) == '.' && isDigits(s, DATE_TIME_LENGTH + 1, DATE_TIME_WITH_MS_LENGTH);
+  }
+
+  private static boolean isDigits(String s, int start, int end) {
+    for (int i = start; i < end; i++) {
+      char c = s.charAt(i);
+      if (c < '0' || c > '9') return false;
+    }
+    return true;
+  }
+
+  private static DateTimeFormatter strictFormatter(String pattern) {
+    return DateTimeFormatter.ofPattern(pattern).withResolverStyle(STRICT);
+  }
+}
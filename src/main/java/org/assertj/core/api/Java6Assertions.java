@@ -58,6 +58,7 @@ import org.assertj.core.data.Offset;
 import org.assertj.core.data.Percentage;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.CanIgnoreReturnValue;
 import org.assertj.core.util.CheckReturnValue;
@@ -1289,6 +1290,26 @@ public class Java6Assertions {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of differences reported when comparing the content of files, paths or input streams, for
+   * example with {@code hasSameContentAs}, the first differences being kept. Default is unlimited.
+   * <p>
+   * This keeps the error messages of very different contents readable, note that the contents following their common
+   * first lines are still read and compared entirely.
+   * <pre><code class='java'> Assertions.setMaxDeltasForContentDiff(10);
+   *
+   * // if the files have 500 different lines, only the first 10 differences are reported followed by
+   * // "... and 490 more differences"
+   * assertThat(actualFile).hasSameContentAs(expectedFile);</code></pre>
+   *
+   * @param maxDeltasForContentDiff the maximum number of differences reported when comparing contents.
+   * @throws IllegalArgumentException if maxDeltasForContentDiff is not strictly positive.
+   * @since 3.13.0
+   */
+  public static void setMaxDeltasForContentDiff(int maxDeltasForContentDiff) {
+    Diff.setMaxDeltasForContentDiff(maxDeltasForContentDiff);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
@@ -0,0 +1,357 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
+import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSizeButHasMoreElements;
+import static org.assertj.core.error.ShouldHaveSizeGreaterThan.shouldHaveSizeGreaterThan;
+import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThan;
+import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.internal.CommonValidations.checkIsNotNull;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Objects.areEqual;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.assertj.core.presentation.PredicateDescription;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Assertions on a {@link Stream} that consume it lazily, in a single pass and without keeping its elements.
+ * <p>
+ * Unlike the {@link ListAssert} returned by {@link Assertions#assertThat(Stream)}, the stream is not converted to a
+ * {@link List}: short-circuiting assertions like {@link #anyMatch(Predicate)}, {@link #contains(Object...)},
+ * {@link #startsWith(Object...)} or {@link #hasSizeGreaterThan(int)} stop consuming the stream as soon as they
+ * succeed (or fail for {@link #noneMatch(Predicate)} and {@link #allMatch(Predicate)}), the other ones consume the
+ * whole stream keeping only the counters they need. This makes them usable on very large or infinite streams.
+ * <p>
+ * Error messages show the first consumed elements only.
+ * <p>
+ * As the stream can only be consumed once, <b>only one assertion on the stream content can be performed</b>, further
+ * ones fail with an {@link IllegalStateException}. Elements are compared with {@code equals}.
+ * <p>
+ * Example:
+ * <pre><code class='java'> // assertions will pass
+ * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i &gt; 1000);
+ * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).startsWith(1, 2, 3);
+ * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).hasSizeGreaterThan(1000);
+ *
+ * // assertion will fail
+ * assertThatLazily(Stream.of(1, 2, 3)).noneMatch(i -&gt; i == 2);</code></pre>
+ *
+ * @param <ELEMENT> the type of elements of the stream.
+ * @since 3.13.0
+ */
+public class LazyStreamAssert<ELEMENT> extends AbstractAssert<LazyStreamAssert<ELEMENT>, Stream<? extends ELEMENT>> {
+
+  @VisibleForTesting
+  static final int MAX_SAMPLE_SIZE = 10;
+
+  private ConsumedElements consumedElements;
+
+  public LazyStreamAssert(Stream<? extends ELEMENT> actual) {
+    super(actual, LazyStreamAssert.class);
+  }
+
+  /**
+   * Verifies that at least one element of the stream matches the given {@link Predicate}, the stream is consumed up to
+   * the first matching element.
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if no element of the stream matches the given predicate.
+   */
+  public LazyStreamAssert<ELEMENT> anyMatch(Predicate<? super ELEMENT> predicate) {
+    checkNotNull(predicate, "The predicate to evaluate should not be null");
+    ConsumedElements elements = consume();
+    while (elements.hasNext()) {
+      if (predicate.test(elements.next())) return myself;
+    }
+    throwAssertionError(anyElementShouldMatch(elements, PredicateDescription.GIVEN));
+    return myself;
+  }
+
+  /**
+   * Verifies that no element of the stream matches the given {@link Predicate}, the stream is consumed up to the first
+   * matching element if any.
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if an element of the stream matches the given predicate.
+   */
+  public LazyStreamAssert<ELEMENT> noneMatch(Predicate<? super ELEMENT> predicate) {
+    checkNotNull(predicate, "The predicate to evaluate should not be null");
+    ConsumedElements elements = consume();
+    while (elements.hasNext()) {
+      ELEMENT element = elements.next();
+      if (predicate.test(element)) throwAssertionError(noElementsShouldMatch(elements, element, PredicateDescription.GIVEN));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that all the elements of the stream match the given {@link Predicate}, the stream is consumed up to the
+   * first element not matching the predicate if any.
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if an element of the stream does not match the given predicate.
+   */
+  public LazyStreamAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate) {
+    checkNotNull(predicate, "The predicate to evaluate should not be null");
+    ConsumedElements elements = consume();
+    while (elements.hasNext()) {
+      ELEMENT element = elements.next();
+      if (!predicate.test(element)) throwAssertionError(elementsShouldMatch(elements, element, PredicateDescription.GIVEN));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the stream contains the given values in any order, the stream is consumed until all the values have
+   * been found.
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the stream does not contain the given values.
+   */
+  @SafeVarargs
+  public final LazyStreamAssert<ELEMENT> contains(ELEMENT... values) {
+    checkIsNotNull(values);
+    checkArgument(values.length > 0, "The array of values to look for should not be empty");
+    ConsumedElements elements = consume();
+    Set<ELEMENT> notFound = new LinkedHashSet<>();
+    for (ELEMENT value : values) {
+      notFound.add(value);
+    }
+    while (!notFound.isEmpty() && elements.hasNext()) {
+      notFound.remove(elements.next());
+    }
+    if (!notFound.isEmpty()) throwAssertionError(shouldContain(elements, values, notFound));
+    return myself;
+  }
+
+  /**
+   * Verifies that the stream does not contain the given values, the stream is consumed up to the first element equal to
+   * one of the values if any.
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the stream contains any of the given values.
+   */
+  @SafeVarargs
+  public final LazyStreamAssert<ELEMENT> doesNotContain(ELEMENT... values) {
+    checkIsNotNull(values);
+    checkArgument(values.length > 0, "The array of values to look for should not be empty");
+    ConsumedElements elements = consume();
+    Set<ELEMENT> forbiddenValues = new LinkedHashSet<>();
+    for (ELEMENT value : values) {
+      forbiddenValues.add(value);
+    }
+    while (elements.hasNext()) {
+      ELEMENT element = elements.next();
+      if (forbiddenValues.contains(element)) throwAssertionError(shouldNotContain(elements, values, array(element)));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the stream starts with the given sequence of values, only the sequence length elements are consumed.
+   *
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the stream does not start with the given sequence.
+   */
+  @SafeVarargs
+  public final LazyStreamAssert<ELEMENT> startsWith(ELEMENT... sequence) {
+    checkIsNotNull(sequence);
+    ConsumedElements elements = consume();
+    // like Iterables.assertStartsWith, an empty sequence only starts an empty stream
+    if (sequence.length == 0 && elements.hasNext()) {
+      elements.next();
+      throwAssertionError(shouldStartWith(elements, sequence));
+    }
+    for (ELEMENT value : sequence) {
+      if (!elements.hasNext() || !areEqual(elements.next(), value)) throwAssertionError(shouldStartWith(elements, sequence));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the stream is empty, at most one element is consumed.
+   *
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the stream is not empty.
+   */
+  public void isEmpty() {
+    ConsumedElements elements = consume();
+    if (elements.hasNext()) {
+      elements.next();
+      throwAssertionError(shouldBeEmpty(elements));
+    }
+  }
+
+  /**
+   * Verifies that the stream is not empty, at most one element is consumed.
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the stream is empty.
+   */
+  public LazyStreamAssert<ELEMENT> isNotEmpty() {
+    if (!consume().hasNext()) throwAssertionError(shouldNotBeEmpty());
+    return myself;
+  }
+
+  /**
+   * Verifies that the number of elements in the stream is equal to the given one, at most {@code expected + 1}
+   * elements are consumed.
+   *
+   * @param expected the expected number of elements in the stream.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the number of elements in the stream is not equal to the given one.
+   */
+  public LazyStreamAssert<ELEMENT> hasSize(int expected) {
+    ConsumedElements elements = consumeAtMost(expected + 1L);
+    // the stream was not fully consumed when it has more elements, its size is unknown
+    if (elements.count() > expected) throwAssertionError(shouldHaveSizeButHasMoreElements(elements, expected));
+    if (elements.count() < expected) throwAssertionError(shouldHaveSize(elements, sizeOf(elements), expected));
+    return myself;
+  }
+
+  /**
+   * Verifies that the number of elements in the stream is greater than the given boundary, at most
+   * {@code boundary + 1} elements are consumed.
+   *
+   * @param boundary the given value to compare the stream size to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the number of elements in the stream is not greater than the boundary.
+   */
+  public LazyStreamAssert<ELEMENT> hasSizeGreaterThan(int boundary) {
+    ConsumedElements elements = consumeAtMost(boundary + 1L);
+    if (elements.count() <= boundary) {
+      throwAssertionError(shouldHaveSizeGreaterThan(elements, sizeOf(elements), boundary));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the number of elements in the stream is less than the given boundary, at most {@code boundary}
+   * elements are consumed.
+   *
+   * @param boundary the given value to compare the stream size to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the number of elements in the stream is not less than the boundary.
+   */
+  public LazyStreamAssert<ELEMENT> hasSizeLessThan(int boundary) {
+    ConsumedElements elements = consumeAtMost(Math.max(boundary, 0));
+    if (elements.count() >= boundary) {
+      // the stream was not fully consumed, the reported size is the number of consumed elements
+      throwAssertionError(shouldHaveSizeLessThan(elements, sizeOf(elements), boundary));
+    }
+    return myself;
+  }
+
+  private ConsumedElements consumeAtMost(long maxCount) {
+    ConsumedElements elements = consume();
+    while (elements.count() < maxCount && elements.hasNext()) {
+      elements.next();
+    }
+    return elements;
+  }
+
+  private int sizeOf(ConsumedElements elements) {
+    return (int) Math.min(elements.count(), Integer.MAX_VALUE);
+  }
+
+  private ConsumedElements consume() {
+    isNotNull();
+    if (consumedElements != null) {
+      throw new IllegalStateException("The stream has already been consumed by a previous assertion, only one assertion on the stream content can be performed");
+    }
+    consumedElements = new ConsumedElements(actual.iterator(), info.representation());
+    return consumedElements;
+  }
+
+  /**
+   * Iterates over the stream elements, counting them and keeping the first ones to describe the stream in error
+   * messages.
+   */
+  private final class ConsumedElements {
+
+    private final Iterator<? extends ELEMENT> iterator;
+    private final Representation representation;
+    private final List<ELEMENT> sample = new ArrayList<>();
+    private long count;
+
+    private ConsumedElements(Iterator<? extends ELEMENT> iterator, Representation representation) {
+      this.iterator = iterator;
+      this.representation = representation;
+    }
+
+    private boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    private ELEMENT next() {
+      ELEMENT element = iterator.next();
+      if (sample.size() < MAX_SAMPLE_SIZE) sample.add(element);
+      count++;
+      return element;
+    }
+
+    private long count() {
+      return count;
+    }
+
+    @Override
+    public String toString() {
+      String elements = representation.toStringOf(sample);
+      if (count <= sample.size()) return elements;
+      return String.format("%s (first %s of %s consumed elements)", elements, sample.size(), count);
+    }
+  }
+}
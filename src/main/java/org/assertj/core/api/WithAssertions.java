@@ -1153,6 +1153,32 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     return Assertions.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link LazyStreamAssert}</code> from the given {@link Stream}.
+   * <p>
+   * Unlike {@link #assertThat(Stream)}, the {@code Stream} under test is not converted to a {@code List}, it is consumed
+   * lazily in a single pass which allows to check very large or infinite streams. Use {@code boxed()} to check
+   * primitive streams.
+   * <p>
+   * <b>Only one assertion on the stream content can be performed</b> as it consumes the stream.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> // assertions will pass
+   * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i &gt; 1000);
+   * assertThatLazily(IntStream.range(0, 1_000_000).boxed()).hasSizeGreaterThan(1000);
+   *
+   * // assertion will fail
+   * assertThatLazily(Stream.of(1, 2, 3)).contains(4);</code></pre>
+   *
+   * @param <ELEMENT> the type of elements.
+   * @param actual the actual {@link Stream} value.
+   * @return the created assertion object.
+   * @since 3.13.0
+   */
+  default <ELEMENT> LazyStreamAssert<ELEMENT> assertThatLazily(Stream<? extends ELEMENT> actual) {
+    return Assertions.assertThatLazily(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link DoubleArrayAssert}</code>.
    *
@@ -1870,6 +1896,26 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of differences reported when comparing the content of files, paths or input streams, for
+   * example with {@code hasSameContentAs}, the first differences being kept. Default is unlimited.
+   * <p>
+   * This keeps the error messages of very different contents readable, note that the contents following their common
+   * first lines are still read and compared entirely.
+   * <pre><code class='java'> Assertions.setMaxDeltasForContentDiff(10);
+   *
+   * // if the files have 500 different lines, only the first 10 differences are reported followed by
+   * // "... and 490 more differences"
+   * assertThat(actualFile).hasSameContentAs(expectedFile);</code></pre>
+   *
+   * @param maxDeltasForContentDiff the maximum number of differences reported when comparing contents.
+   * @throws IllegalArgumentException if maxDeltasForContentDiff is not strictly positive.
+   * @since 3.13.0
+   */
+  default void setMaxDeltasForContentDiff(int maxDeltasForContentDiff) {
+    Assertions.setMaxDeltasForContentDiff(maxDeltasForContentDiff);
+  }
+
   /**
    * Globally sets whether
    * <code>{@link org.assertj.core.api.AbstractIterableAssert#extracting(String) IterableAssert#extracting(String)}</code>
@@ -13,10 +13,8 @@
 package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
-import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Arrays.isArray;
-import static org.assertj.core.util.Strings.join;
 
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -31,21 +29,22 @@ final class DualValue {
 
   static final Class<?>[] DEFAULT_ORDERED_COLLECTION_TYPES = array(List.class, SortedSet.class, LinkedHashSet.class);
 
-  final List<String> path;
-  final String concatenatedPath;
+  final FieldPath fieldPath;
   final Object actual;
   final Object expected;
   private final int hashCode;
 
-
   DualValue(List<String> path, Object actual, Object expected) {
-    this.path = path;
-    this.concatenatedPath = join(path).with(".");
+    this(FieldPath.fieldPath(path), actual, expected);
+  }
+
+  DualValue(FieldPath fieldPath, Object actual, Object expected) {
+    this.fieldPath = fieldPath;
     this.actual = actual;
     this.expected = expected;
-    int h1 = actual != null ? actual.hashCode() : 0;
-    int h2 = expected != null ? expected.hashCode() : 0;
-    hashCode = h1 + h2;
+    // equals compares actual and expected by reference, use identity hash codes to be consistent with it and avoid
+    // calling potentially expensive (or recursive) user hashCode methods
+    hashCode = 31 * System.identityHashCode(actual) + System.identityHashCode(expected);
   }
 
   @Override
@@ -62,15 +61,15 @@ final class DualValue {
 
   @Override
   public String toString() {
-    return format("DualValue [path=%s, actual=%s, expected=%s]", concatenatedPath, actual, expected);
+    return format("DualValue [path=%s, actual=%s, expected=%s]", getConcatenatedPath(), actual, expected);
   }
 
   public List<String> getPath() {
-    return unmodifiableList(path);
+    return fieldPath.getPath();
   }
 
   public String getConcatenatedPath() {
-    return concatenatedPath;
+    return fieldPath.getConcatenatedPath();
   }
 
   public boolean isJavaType() {
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Path of a value compared in the recursive comparison, it is a persistent linked structure where each path references
+ * its parent path.
+ * <p>
+ * Child paths are interned: the recursive comparison visits the same paths for each element of a collection, asking
+ * for an already created child path returns the same instance. The path list and its dotted representation are only
+ * computed when needed (to look for a field comparator, to check ignored fields or to report a difference) and then
+ * cached.
+ */
+final class FieldPath {
+
+  private final FieldPath parent;
+  private final String name;
+  private final int depth;
+  // most paths are leaves, the children map is only created when the first child path is asked
+  private volatile Map<String, FieldPath> children;
+  // lazily computed, racy initialization is fine as the computed values are immutable and always the same
+  private String concatenatedPath;
+  private List<String> path;
+
+  private FieldPath(FieldPath parent, String name) {
+    this.parent = parent;
+    this.name = name;
+    this.depth = parent == null ? 0 : parent.depth + 1;
+  }
+
+  /**
+   * Returns a new root (empty) path, each recursive comparison should use its own root to avoid keeping paths between
+   * comparisons.
+   *
+   * @return a new root path.
+   */
+  static FieldPath rootPath() {
+    return new FieldPath(null, null);
+  }
+
+  static FieldPath fieldPath(List<String> path) {
+    FieldPath fieldPath = rootPath();
+    for (String name : path) {
+      fieldPath = fieldPath.child(name);
+    }
+    return fieldPath;
+  }
+
+  FieldPath child(String childName) {
+    Map<String, FieldPath> children = children();
+    FieldPath child = children.get(childName);
+    if (child != null) return child;
+    return children.computeIfAbsent(childName, key -> new FieldPath(this, key));
+  }
+
+  private Map<String, FieldPath> children() {
+    Map<String, FieldPath> currentChildren = children;
+    if (currentChildren != null) return currentChildren;
+    // paths can be shared by parallel comparisons, the map must be created only once
+    synchronized (this) {
+      if (children == null) children = new ConcurrentHashMap<>();
+      return children;
+    }
+  }
+
+  boolean isRoot() {
+    return parent == null;
+  }
+
+  List<String> getPath() {
+    if (path == null) {
+      String[] names = new String[depth];
+      for (FieldPath current = this; !current.isRoot(); current = current.parent) {
+        names[current.depth - 1] = current.name;
+      }
+      path = unmodifiableList(Arrays.asList(names));
+    }
+    return path;
+  }
+
+  String getConcatenatedPath() {
+    if (concatenatedPath == null) {
+      if (isRoot()) concatenatedPath = "";
+      else concatenatedPath = parent.isRoot() ? name : parent.getConcatenatedPath() + "." + name;
+    }
+    return concatenatedPath;
+  }
+
+  @Override
+  public String toString() {
+    return getConcatenatedPath();
+  }
+}
@@ -13,18 +13,23 @@
 package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.join;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -45,6 +50,8 @@ public class RecursiveComparisonConfiguration {
   private boolean ignoreAllActualNullFields = false;
   private Set<FieldLocation> ignoredFields = new LinkedHashSet<>();
   private List<Pattern> ignoredFieldsRegexes = new ArrayList<>();
+  // fields kept in the comparison by type and parent path, cleared when fields to ignore change
+  private final Map<Class<?>, Map<String, Set<String>>> nonIgnoredFieldNamesByType = new ConcurrentHashMap<>();
 
   // overridden equals method to ignore section
   private List<Class<?>> ignoredOverriddenEqualsForTypes = new ArrayList<>();
@@ -61,6 +68,9 @@ public class RecursiveComparisonConfiguration {
   private TypeComparators typeComparators = defaultTypeComparators();
   private FieldComparators fieldComparators = new FieldComparators();
 
+  // number of threads comparing independent values (1 = comparison in the calling thread)
+  private int parallelism = 1;
+
   public boolean hasComparatorForField(String fieldName) {
     return fieldComparators.hasComparatorForField(new FieldLocation(fieldName));
   }
@@ -119,6 +129,7 @@ public class RecursiveComparisonConfiguration {
   public void ignoreFields(String... fieldsToIgnore) {
     List<FieldLocation> fieldLocations = FieldLocation.from(fieldsToIgnore);
     ignoredFields.addAll(fieldLocations);
+    nonIgnoredFieldNamesByType.clear();
   }
 
   /**
@@ -132,6 +143,7 @@ public class RecursiveComparisonConfiguration {
     ignoredFieldsRegexes.addAll(Stream.of(regexes)
                                       .map(Pattern::compile)
                                       .collect(toList()));
+    nonIgnoredFieldNamesByType.clear();
   }
 
   /**
@@ -296,6 +308,25 @@ public class RecursiveComparisonConfiguration {
     return strictTypeChecking;
   }
 
+  /**
+   * Sets the number of threads used by the recursive comparison, when greater than 1 the elements of arrays, collections
+   * and maps are compared concurrently in a {@link java.util.concurrent.ForkJoinPool ForkJoinPool} of the given
+   * parallelism.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withParallelism(int)} for code examples.
+   *
+   * @param parallelism the number of threads used by the recursive comparison.
+   * @throws IllegalArgumentException if parallelism is not strictly positive.
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism > 0, "The parallelism must be strictly positive but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
   public List<Pattern> getIgnoredFieldsRegexes() {
     return ignoredFieldsRegexes;
   }
@@ -333,6 +364,7 @@ public class RecursiveComparisonConfiguration {
     describeRegisteredComparatorByTypes(description);
     describeRegisteredComparatorForFields(description);
     describeTypeCheckingStrictness(description);
+    describeParallelism(description);
     return description.toString();
   }
 
@@ -348,6 +380,21 @@ public class RecursiveComparisonConfiguration {
     return fieldName -> shouldKeepField(parentConcatenatedPath, fieldName);
   }
 
+  // the recursive comparison asks the fields to compare for each object it visits, the result is cached by type and
+  // parent path.
+  Set<String> getNonIgnoredFieldNames(Class<?> type, String parentConcatenatedPath, Set<String> fieldNames) {
+    Map<String, Set<String>> nonIgnoredFieldNamesByParentPath = nonIgnoredFieldNamesByType.computeIfAbsent(type,
+                                                                                                           t -> new ConcurrentHashMap<>());
+    Set<String> nonIgnoredFieldNames = nonIgnoredFieldNamesByParentPath.get(parentConcatenatedPath);
+    if (nonIgnoredFieldNames == null) {
+      nonIgnoredFieldNames = unmodifiableSet(fieldNames.stream()
+                                                       .filter(shouldKeepField(parentConcatenatedPath))
+                                                       .collect(toSet()));
+      nonIgnoredFieldNamesByParentPath.put(parentConcatenatedPath, nonIgnoredFieldNames);
+    }
+    return nonIgnoredFieldNames;
+  }
+
   private boolean shouldKeepField(String parentPath, String fieldName) {
     String fieldConcatenatedPath = concatenatedPath(parentPath, fieldName);
     return !matchesAnIgnoredField(fieldConcatenatedPath) && !matchesAnIgnoredFieldRegex(fieldConcatenatedPath);
@@ -459,7 +506,7 @@ public class RecursiveComparisonConfiguration {
 
   private boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualKey) {
     return ignoredOverriddenEqualsForFields.stream()
-                                           .anyMatch(fieldLocation -> fieldLocation.matches(dualKey.concatenatedPath));
+                                           .anyMatch(fieldLocation -> fieldLocation.matches(dualKey.getConcatenatedPath()));
   }
 
   private boolean matchesAnIgnoredNullField(DualValue dualKey) {
@@ -472,11 +519,11 @@ public class RecursiveComparisonConfiguration {
   }
 
   private boolean matchesAnIgnoredFieldRegex(DualValue dualKey) {
-    return matchesAnIgnoredFieldRegex(dualKey.concatenatedPath);
+    return matchesAnIgnoredFieldRegex(dualKey.getConcatenatedPath());
   }
 
   private boolean matchesAnIgnoredField(DualValue dualKey) {
-    return matchesAnIgnoredField(dualKey.concatenatedPath);
+    return matchesAnIgnoredField(dualKey.getConcatenatedPath());
   }
 
   private boolean matchesAnIgnoredField(String fieldConcatenatedPath) {
@@ -486,12 +533,12 @@ public class RecursiveComparisonConfiguration {
 
   private boolean matchesAnIgnoredCollectionOrderInField(DualValue dualKey) {
     return ignoredCollectionOrderInFields.stream()
-                                         .anyMatch(fieldLocation -> fieldLocation.matches(dualKey.concatenatedPath));
+                                         .anyMatch(fieldLocation -> fieldLocation.matches(dualKey.getConcatenatedPath()));
   }
 
   private boolean matchesAnIgnoredCollectionOrderInFieldRegex(DualValue dualKey) {
     return ignoredCollectionOrderInFieldsMatchingRegexes.stream()
-                                                        .anyMatch(regex -> regex.matcher(dualKey.concatenatedPath).matches());
+                                                        .anyMatch(regex -> regex.matcher(dualKey.getConcatenatedPath()).matches());
   }
 
   private String describeIgnoredFields() {
@@ -565,4 +612,9 @@ public class RecursiveComparisonConfiguration {
     description.append(format(str));
   }
 
+  private void describeParallelism(StringBuilder description) {
+    if (parallelism > 1)
+      description.append(format("- arrays, collections and maps elements were compared in parallel by %s threads%n", parallelism));
+  }
+
 }
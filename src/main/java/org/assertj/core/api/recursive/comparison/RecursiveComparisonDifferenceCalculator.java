@@ -13,27 +13,33 @@
 package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
-import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
 import static org.assertj.core.util.IterableUtil.sizeOf;
-import static org.assertj.core.util.IterableUtil.toCollection;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newHashSet;
-import static org.assertj.core.util.Strings.join;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -42,9 +48,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Stream;
 
+import org.assertj.core.configuration.ConfigurationScope;
 import org.assertj.core.internal.DeepDifference;
+import org.assertj.core.presentation.Representation;
 
 /**
  * Based on {@link DeepDifference} but takes a {@link RecursiveComparisonConfiguration}, {@link DeepDifference}
@@ -62,20 +72,48 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String VALUE_FIELD_NAME = "value";
   private static final String STRICT_TYPE_ERROR = "the fields are considered different since the comparison enforces strict type check and %s is not a subtype of %s";
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
+  private static final String UNMATCHED_ELEMENTS = "The following actual elements could not be matched to any expected elements:%n  %s%n"
+                                                   + "The following expected elements were not matched by any actual elements:%n  %s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these:%s";
+  // in parallel comparisons, container elements are compared in forked tasks by batches of at least
+  // MIN_FORKED_BATCH_SIZE elements, large containers are split in about FORKED_BATCHES_PER_THREAD batches per thread
+  private static final int MIN_FORKED_BATCH_SIZE = 64;
+  private static final int FORKED_BATCHES_PER_THREAD = 4;
+  private static final Map<Integer, ForkJoinPool> FORK_JOIN_POOLS = new ConcurrentHashMap<>();
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
   private static final Map<Class<?>, Boolean> customHash = new ConcurrentHashMap<>();
+  // the field names of a class don't change, ClassValue lets them be garbage collected with their class
+  private static final ClassValue<Set<String>> FIELDS_NAMES = new ClassValue<Set<String>>() {
+    @Override
+    protected Set<String> computeValue(Class<?> type) {
+      Collection<Field> fields = getDeclaredFieldsIncludingInherited(type);
+      Set<String> fieldNames = new LinkedHashSet<>();
+      for (Field field : fields) {
+        fieldNames.add(field.getName());
+      }
+      return unmodifiableSet(fieldNames);
+    }
+  };
 
   private static class ComparisonState {
     Set<DualValue> visitedDualValues;
     List<ComparisonDifference> differences = new ArrayList<>();
     Deque<DualValue> dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
-
-    public ComparisonState(Set<DualValue> visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    // in parallel comparisons, container elements are compared in forked tasks
+    final boolean parallel;
+    final List<DualValue> independentDualValues = new ArrayList<>();
+    final List<ForkedComparison> forkedComparisons = new ArrayList<>();
+    // in parallel comparisons, the dual values this state was the first to add to the shared visited ones
+    final Set<DualValue> claimedDualValues;
+
+    public ComparisonState(Set<DualValue> visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                           boolean parallel) {
       this.visitedDualValues = visited;
       this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.parallel = parallel;
+      this.claimedDualValues = parallel ? new HashSet<>() : null;
     }
 
     void addDifference(DualValue dualValue) {
@@ -88,17 +126,38 @@ public class RecursiveComparisonDifferenceCalculator {
     }
 
     public List<ComparisonDifference> getDifferences() {
+      List<ComparisonDifference> differences = collectDifferences();
       Collections.sort(differences);
       return differences;
     }
 
+    // returns the differences in the order they would have been found by a sequential comparison
+    List<ComparisonDifference> collectDifferences() {
+      if (forkedComparisons.isEmpty()) return differences;
+      List<ComparisonDifference> allDifferences = new ArrayList<>();
+      int index = 0;
+      for (ForkedComparison forkedComparison : forkedComparisons) {
+        allDifferences.addAll(differences.subList(index, forkedComparison.differencesIndex));
+        allDifferences.addAll(forkedComparison.task.join());
+        index = forkedComparison.differencesIndex;
+      }
+      allDifferences.addAll(differences.subList(index, differences.size()));
+      return allDifferences;
+    }
+
     public boolean hasDualValuesToCompare() {
       return !dualValuesToCompare.isEmpty();
     }
 
+    // returns null if the picked dual value has already been compared by another parallel comparison
     public DualValue pickDualValueToCompare() {
       final DualValue dualValue = dualValuesToCompare.removeFirst();
-      visitedDualValues.add(dualValue);
+      boolean firstVisit = visitedDualValues.add(dualValue);
+      if (!parallel) return dualValue;
+      // the visited check done when registering the dual value is not enough as another task may have claimed it since,
+      // values registered several times by this state are compared each time like in a sequential comparison.
+      if (firstVisit) claimedDualValues.add(dualValue);
+      else if (!claimedDualValues.contains(dualValue)) return null;
       return dualValue;
     }
 
@@ -106,43 +165,136 @@ public class RecursiveComparisonDifferenceCalculator {
       if (!visitedDualValues.contains(dualValue)) dualValuesToCompare.addFirst(dualValue);
     }
 
-    private void initDualValuesToCompare(Object actual, Object expected, List<String> parentPath) {
-      boolean isRootObject = parentPath.isEmpty();
-      List<String> currentPath = new ArrayList<>(parentPath);
-      DualValue dualValue = new DualValue(currentPath, actual, expected);
+    // registers elements of arrays, collections or maps, they can be compared independently of the other values.
+    private void registerIndependentForComparison(DualValue dualValue) {
+      if (parallel) independentDualValues.add(dualValue);
+      else registerForComparison(dualValue);
+    }
+
+    // forks the comparison of the independent values registered when comparing the last picked dual value, they are
+    // forked by batches in the order a sequential comparison would have compared them (registered values are added
+    // first to dualValuesToCompare), too few values to fill a batch are compared by this state.
+    private void forkIndependentComparisons() {
+      if (independentDualValues.isEmpty()) return;
+      int valuesCount = independentDualValues.size();
+      int batchSize = Math.max(MIN_FORKED_BATCH_SIZE,
+                               valuesCount / (FORKED_BATCHES_PER_THREAD * recursiveComparisonConfiguration.getParallelism()));
+      if (valuesCount < 2 * batchSize) {
+        independentDualValues.forEach(this::registerForComparison);
+      } else {
+        for (int batchEnd = valuesCount; batchEnd > 0; batchEnd -= batchSize) {
+          forkComparison(independentDualValues.subList(Math.max(0, batchEnd - batchSize), batchEnd));
+        }
+      }
+      independentDualValues.clear();
+    }
+
+    private void forkComparison(List<DualValue> dualValues) {
+      ComparisonState forkedState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration, true);
+      for (DualValue dualValue : dualValues) {
+        if (!recursiveComparisonConfiguration.shouldIgnore(dualValue)) forkedState.registerForComparison(dualValue);
+      }
+      if (!forkedState.hasDualValuesToCompare()) return;
+      ComparisonTask task = new ComparisonTask(forkedState);
+      task.fork();
+      forkedComparisons.add(new ForkedComparison(differences.size(), task));
+    }
+
+    // already visited fields pair are not registered to avoid infinite recursion in case
+    // parent -> set{child} with child having a reference back to parent
+    // it occurs to unordered collection where we compare all possible combination of the collection elements recursively
+    private void initDualValuesToCompare(Object actual, Object expected, FieldPath parentPath) {
+      boolean isRootObject = parentPath.isRoot();
+      DualValue dualValue = new DualValue(parentPath, actual, expected);
       if (actual != null && expected != null && !isContainerType(actual) && !isContainerType(expected)
           && (isRootObject || !hasCustomComparator(dualValue, recursiveComparisonConfiguration))) {
         // disregard the equals method and start comparing fields
-        Set<String> actualFieldsNameSet = getNonIgnoredFieldNames(actual.getClass(), parentPath,
+        Set<String> actualFieldsNameSet = getNonIgnoredFieldNames(actual.getClass(), parentPath.getConcatenatedPath(),
                                                                   recursiveComparisonConfiguration);
         if (!actualFieldsNameSet.isEmpty()) {
           Set<String> expectedFieldsNameSet = getFieldsNames(expected.getClass());
           if (!expectedFieldsNameSet.containsAll(actualFieldsNameSet)) {
-            dualValuesToCompare.addFirst(dualValue);
+            registerForComparison(dualValue);
           } else {
             for (String fieldName : actualFieldsNameSet) {
-              List<String> fieldPath = new ArrayList<>(currentPath);
-              fieldPath.add(fieldName);
-              DualValue fieldDualKey = new DualValue(fieldPath,
+              DualValue fieldDualKey = new DualValue(parentPath.child(fieldName),
                                                      COMPARISON.getSimpleValue(fieldName, actual),
                                                      COMPARISON.getSimpleValue(fieldName, expected));
-              dualValuesToCompare.addFirst(fieldDualKey);
+              registerForComparison(fieldDualKey);
             }
           }
         } else {
-          dualValuesToCompare.addFirst(dualValue);
+          registerForComparison(dualValue);
         }
       } else {
-        dualValuesToCompare.addFirst(dualValue);
+        registerForComparison(dualValue);
       }
-      // need to remove already visited fields pair to avoid infinite recursion in case
-      // parent -> set{child} with child having a reference back to parent
-      // it occurs to unordered collection where we compare all possible combination of the collection elements recursively
-      dualValuesToCompare.removeAll(visitedDualValues);
     }
 
   }
 
+  private static class ForkedComparison {
+    // index in the forking state differences where the forked comparison differences must be inserted
+    final int differencesIndex;
+    final ComparisonTask task;
+
+    ForkedComparison(int differencesIndex, ComparisonTask task) {
+      this.differencesIndex = differencesIndex;
+      this.task = task;
+    }
+  }
+
+  // dual values visited by the trial comparison of two unordered collection elements, it sees the already visited ones
+  // but only records the ones it visits in its own set.
+  private static class TrialVisitedDualValues extends AbstractSet<DualValue> {
+    private final Set<DualValue> visitedDualValues;
+    private final Set<DualValue> trialVisitedDualValues = new HashSet<>();
+
+    TrialVisitedDualValues(Set<DualValue> visitedDualValues) {
+      this.visitedDualValues = visitedDualValues;
+    }
+
+    @Override
+    public boolean contains(Object dualValue) {
+      return trialVisitedDualValues.contains(dualValue) || visitedDualValues.contains(dualValue);
+    }
+
+    @Override
+    public boolean add(DualValue dualValue) {
+      return !visitedDualValues.contains(dualValue) && trialVisitedDualValues.add(dualValue);
+    }
+
+    @Override
+    public Iterator<DualValue> iterator() {
+      return trialVisitedDualValues.iterator();
+    }
+
+    @Override
+    public int size() {
+      return trialVisitedDualValues.size();
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class ComparisonTask extends RecursiveTask<List<ComparisonDifference>> {
+    private final ComparisonState comparisonState;
+    // the pool threads comparing values on behalf of the thread starting the comparison use its configuration
+    private final ConfigurationScope configurationScope;
+
+    ComparisonTask(ComparisonState comparisonState) {
+      this.comparisonState = comparisonState;
+      this.configurationScope = ConfigurationScope.current();
+    }
+
+    @Override
+    protected List<ComparisonDifference> compute() {
+      return ConfigurationScope.callWithin(configurationScope, () -> {
+        compareDualValues(comparisonState);
+        return comparisonState.collectDifferences();
+      });
+    }
+  }
+
   /**
    * Compare two objects for differences by doing a 'deep' comparison. This will traverse the
    * Object graph and perform either a field-by-field comparison on each
@@ -169,118 +321,143 @@ public class RecursiveComparisonDifferenceCalculator {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
       return list(expectedAndActualTypeDifference(actual, expected));
     }
-    List<String> rootPath = list();
+    FieldPath rootPath = FieldPath.rootPath();
+    int parallelism = recursiveComparisonConfiguration.getParallelism();
+    if (parallelism > 1) return determineDifferencesInParallel(actual, expected, rootPath, parallelism, recursiveComparisonConfiguration);
     final Set<DualValue> visited = new HashSet<>();
     return determineDifferences(actual, expected, rootPath, visited, recursiveComparisonConfiguration);
   }
 
+  private static List<ComparisonDifference> determineDifferencesInParallel(Object actual, Object expected, FieldPath rootPath,
+                                                                           int parallelism,
+                                                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    ComparisonState comparisonState = new ComparisonState(ConcurrentHashMap.newKeySet(), recursiveComparisonConfiguration, true);
+    comparisonState.initDualValuesToCompare(actual, expected, rootPath);
+    List<ComparisonDifference> differences = forkJoinPool(parallelism).invoke(new ComparisonTask(comparisonState));
+    Collections.sort(differences);
+    return differences;
+  }
+
+  // pools are reused by the comparisons having the same parallelism, their (daemon) threads are stopped when idle
+  private static ForkJoinPool forkJoinPool(int parallelism) {
+    if (parallelism == ForkJoinPool.getCommonPoolParallelism()) return ForkJoinPool.commonPool();
+    return FORK_JOIN_POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+  }
+
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
-  private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, List<String> parentPath,
+  private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, FieldPath parentPath,
                                                                  Set<DualValue> visited,
                                                                  RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    ComparisonState comparisonState = new ComparisonState(visited, recursiveComparisonConfiguration);
+    ComparisonState comparisonState = new ComparisonState(visited, recursiveComparisonConfiguration, false);
     comparisonState.initDualValuesToCompare(actual, expected, parentPath);
+    compareDualValues(comparisonState);
+    return comparisonState.getDifferences();
+  }
 
+  private static void compareDualValues(ComparisonState comparisonState) {
     while (comparisonState.hasDualValuesToCompare()) {
-      final DualValue dualValue = comparisonState.pickDualValueToCompare();
+      DualValue dualValue = comparisonState.pickDualValueToCompare();
+      if (dualValue == null) continue;
+      compareDualValue(dualValue, comparisonState);
+      comparisonState.forkIndependentComparisons();
+    }
+  }
 
-      final List<String> currentPath = dualValue.getPath();
-      final Object actualFieldValue = dualValue.actual;
-      final Object expectedFieldValue = dualValue.expected;
+  private static void compareDualValue(DualValue dualValue, ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    final FieldPath currentPath = dualValue.fieldPath;
+    final Object actualFieldValue = dualValue.actual;
+    final Object expectedFieldValue = dualValue.expected;
 
-      if (actualFieldValue == expectedFieldValue) continue;
+    if (actualFieldValue == expectedFieldValue) return;
 
-      // Custom comparators take precedence over all other types of comparison
-      if (hasCustomComparator(dualValue, recursiveComparisonConfiguration)) {
-        if (!propertyOrFieldValuesAreEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
-        // since we used a custom comparator we don't need to inspect the nested fields any further
-        continue;
-      }
+    // Custom comparators take precedence over all other types of comparison
+    if (hasCustomComparator(dualValue, recursiveComparisonConfiguration)) {
+      if (!propertyOrFieldValuesAreEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
+      // since we used a custom comparator we don't need to inspect the nested fields any further
+      return;
+    }
 
-      if (actualFieldValue == null || expectedFieldValue == null) {
-        // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
-        comparisonState.addDifference(dualValue);
-        continue;
-      }
+    if (actualFieldValue == null || expectedFieldValue == null) {
+      // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
+      comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      // TODO move hasFieldTypesDifference check into each compareXXX
+    // TODO move hasFieldTypesDifference check into each compareXXX
 
-      if (dualValue.isExpectedFieldAnArray()) {
-        compareArrays(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnArray()) {
+      compareArrays(dualValue, comparisonState);
+      return;
+    }
 
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedFieldAnOrderedCollection() && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue)) {
-        compareOrderedCollections(dualValue, comparisonState);
-        continue;
-      }
+    // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+    // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+    if (dualValue.isExpectedFieldAnOrderedCollection() && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue)) {
+      compareOrderedCollections(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnIterable()) {
-        compareIterables(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnIterable()) {
+      compareIterables(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnOptional()) {
-        compareOptional(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnOptional()) {
+      compareOptional(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedFieldASortedMap()) {
-        compareSortedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
+    if (dualValue.isExpectedFieldASortedMap()) {
+      compareSortedMap(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedFieldAMap()) {
-        compareUnorderedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
+    // temporary Map must be created, however the comparison still runs in O(N) time.
+    if (dualValue.isExpectedFieldAMap()) {
+      compareUnorderedMap(dualValue, comparisonState);
+      return;
+    }
 
-      if (!recursiveComparisonConfiguration.shouldIgnoreOverriddenEqualsOf(dualValue)
-          && hasCustomEquals(actualFieldValue.getClass())) {
-        if (!actualFieldValue.equals(expectedFieldValue)) {
-          comparisonState.addDifference(dualValue);
-        }
-        continue;
+    if (!recursiveComparisonConfiguration.shouldIgnoreOverriddenEqualsOf(dualValue)
+        && hasCustomEquals(actualFieldValue.getClass())) {
+      if (!actualFieldValue.equals(expectedFieldValue)) {
+        comparisonState.addDifference(dualValue);
       }
+      return;
+    }
 
-      Class<?> expectedFieldClass = expectedFieldValue.getClass();
-      if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
-        comparisonState.addDifference(dualValue, STRICT_TYPE_ERROR, expectedFieldClass.getName(),
-                                      actualFieldValue.getClass().getName());
-        continue;
-      }
+    Class<?> expectedFieldClass = expectedFieldValue.getClass();
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
+      comparisonState.addDifference(dualValue, STRICT_TYPE_ERROR, expectedFieldClass.getName(),
+                                    actualFieldValue.getClass().getName());
+      return;
+    }
 
-      Set<String> actualFieldsNames = getNonIgnoredFieldNames(actualFieldValue.getClass(), currentPath,
-                                                              recursiveComparisonConfiguration);
-      Set<String> expectedFieldsNames = getFieldsNames(expectedFieldClass);
-      if (!expectedFieldsNames.containsAll(actualFieldsNames)) {
-        Set<String> actualFieldsNamesNotInExpected = newHashSet(actualFieldsNames);
-        actualFieldsNamesNotInExpected.removeAll(expectedFieldsNames);
-        String missingFields = actualFieldsNamesNotInExpected.toString();
-        String expectedClassName = expectedFieldClass.getName();
-        String actualClassName = actualFieldValue.getClass().getName();
-        String missingFieldsDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
-                                                 expectedFieldClass.getSimpleName(),
-                                                 actualFieldValue.getClass().getSimpleName(), missingFields);
-        comparisonState.addDifference(dualValue, missingFieldsDescription);
-      } else {
-        for (String fieldName : actualFieldsNames) {
-          List<String> path = new ArrayList<>(currentPath);
-          path.add(fieldName);
-          DualValue newDualValue = new DualValue(path,
-                                                 COMPARISON.getSimpleValue(fieldName, actualFieldValue),
-                                                 COMPARISON.getSimpleValue(fieldName, expectedFieldValue));
-          comparisonState.registerForComparison(newDualValue);
-        }
+    Set<String> actualFieldsNames = getNonIgnoredFieldNames(actualFieldValue.getClass(), dualValue.getConcatenatedPath(),
+                                                            recursiveComparisonConfiguration);
+    Set<String> expectedFieldsNames = getFieldsNames(expectedFieldClass);
+    if (!expectedFieldsNames.containsAll(actualFieldsNames)) {
+      Set<String> actualFieldsNamesNotInExpected = newHashSet(actualFieldsNames);
+      actualFieldsNamesNotInExpected.removeAll(expectedFieldsNames);
+      String missingFields = actualFieldsNamesNotInExpected.toString();
+      String expectedClassName = expectedFieldClass.getName();
+      String actualClassName = actualFieldValue.getClass().getName();
+      String missingFieldsDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
+                                               expectedFieldClass.getSimpleName(),
+                                               actualFieldValue.getClass().getSimpleName(), missingFields);
+      comparisonState.addDifference(dualValue, missingFieldsDescription);
+    } else {
+      for (String fieldName : actualFieldsNames) {
+        DualValue newDualValue = new DualValue(currentPath.child(fieldName),
+                                               COMPARISON.getSimpleValue(fieldName, actualFieldValue),
+                                               COMPARISON.getSimpleValue(fieldName, expectedFieldValue));
+        comparisonState.registerForComparison(newDualValue);
       }
     }
-    return comparisonState.getDifferences();
   }
 
   private static boolean hasCustomComparator(DualValue dualValue,
@@ -292,22 +469,15 @@ public class RecursiveComparisonDifferenceCalculator {
     return recursiveComparisonConfiguration.hasComparatorForType(valueType);
   }
 
-  private static Set<String> getNonIgnoredFieldNames(Class<?> actualClass, List<String> parentPath,
+  private static Set<String> getNonIgnoredFieldNames(Class<?> actualClass, String parentConcatenatedPath,
                                                      RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    String parentConcatenatedPath = join(parentPath).with(".");
     // need to ignore fields according to the configuration
-    return getFieldsNames(actualClass).stream()
-                                      .filter(recursiveComparisonConfiguration.shouldKeepField(parentConcatenatedPath))
-                                      .collect(toSet());
+    return recursiveComparisonConfiguration.getNonIgnoredFieldNames(actualClass, parentConcatenatedPath,
+                                                                    getFieldsNames(actualClass));
   }
 
   private static Set<String> getFieldsNames(Class<?> clazz) {
-    Collection<Field> fields = getDeclaredFieldsIncludingInherited(clazz);
-    Set<String> fieldNames = new LinkedHashSet<>();
-    for (Field field : fields) {
-      fieldNames.add(field.getName());
-    }
-    return fieldNames;
+    return FIELDS_NAMES.get(clazz);
   }
 
   private static boolean isContainerType(Object o) {
@@ -331,12 +501,12 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
     // register each pair of actual/expected elements for recursive comparison
-    List<String> arrayFieldPath = dualValue.getPath();
+    FieldPath arrayFieldPath = dualValue.fieldPath;
     for (int i = 0; i < actualArrayLength; i++) {
       Object actualElement = Array.get(dualValue.actual, i);
       Object expectedElement = Array.get(dualValue.expected, i);
       // TODO add [i] to the path ?
-      comparisonState.registerForComparison(new DualValue(arrayFieldPath, actualElement, expectedElement));
+      comparisonState.registerIndependentForComparison(new DualValue(arrayFieldPath, actualElement, expectedElement));
     }
   }
 
@@ -360,10 +530,10 @@ public class RecursiveComparisonDifferenceCalculator {
     }
     // register pair of elements with same index for later comparison as we compare elements in order
     Iterator<?> expectedIterator = expectedCollection.iterator();
-    List<String> path = dualValue.getPath();
+    FieldPath path = dualValue.fieldPath;
     actualCollection.stream()
                     .map(element -> new DualValue(path, element, expectedIterator.next()))
-                    .forEach(comparisonState::registerForComparison);
+                    .forEach(comparisonState::registerIndependentForComparison);
   }
 
   private static String differentTypeErrorMessage(DualValue dualValue, String actualTypeDescription) {
@@ -389,33 +559,192 @@ public class RecursiveComparisonDifferenceCalculator {
       // - unexpected actual elements (the ones not matching any expected)
       // - expected elements not found in actual.
     }
-    List<String> path = dualValue.getPath();
-    // copy expected as we will remove elements found in actual
-    Collection<?> expectedCopy = new LinkedList<>(toCollection(expected));
-    for (Object actualElement : actual) {
-      // compare recursively actualElement to all remaining expected elements
-      Iterator<?> expectedIterator = expectedCopy.iterator();
-      while (expectedIterator.hasNext()) {
-        Object expectedElement = expectedIterator.next();
-        // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
-        List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement, path,
-                                                                      comparisonState.visitedDualValues,
-                                                                      comparisonState.recursiveComparisonConfiguration);
-        if (differences.isEmpty()) {
-          // we found an element in expected matching actualElement, we must remove it as if actual matches expected
-          // it means for each actual element there is one and only matching expected element.
-          expectedIterator.remove();
-          // jump to next actual element check
-          break;
+    FieldPath path = dualValue.fieldPath;
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    List<Object> actualElements = newArrayList(actual);
+    List<Object> expectedElements = newArrayList(expected);
+    // an element always matches itself, identical elements are matched first without being compared nor fingerprinted
+    boolean[] matchedExpectedElements = new boolean[expectedSize];
+    List<Object> remainingActualElements = matchIdenticalElements(actualElements, expectedElements, matchedExpectedElements);
+    List<Object> remainingExpectedElements = new ArrayList<>();
+    List<Integer> remainingExpectedIndexes = new ArrayList<>();
+    for (int i = 0; i < expectedSize; i++) {
+      if (matchedExpectedElements[i]) continue;
+      remainingExpectedElements.add(expectedElements.get(i));
+      remainingExpectedIndexes.add(i);
+    }
+    // elements matching in the recursive comparison have the same fingerprint, we use them to group expected elements
+    // in buckets and only compare recursively an actual element to the expected elements of its bucket.
+    int[] actualFingerprints = new int[remainingActualElements.size()];
+    int[] expectedFingerprints = new int[remainingExpectedElements.size()];
+    computeFingerprints(remainingActualElements, remainingExpectedElements, path, recursiveComparisonConfiguration,
+                        actualFingerprints, expectedFingerprints);
+    Map<Integer, List<Integer>> expectedIndexesByFingerprint = new HashMap<>();
+    for (int i = 0; i < expectedFingerprints.length; i++) {
+      expectedIndexesByFingerprint.computeIfAbsent(expectedFingerprints[i], fingerprint -> new LinkedList<>())
+                                  .add(remainingExpectedIndexes.get(i));
+    }
+    List<Object> unmatchedActualElements = new ArrayList<>();
+    for (int i = 0; i < actualFingerprints.length; i++) {
+      Object actualElement = remainingActualElements.get(i);
+      List<Integer> candidateIndexes = expectedIndexesByFingerprint.getOrDefault(actualFingerprints[i], emptyList());
+      int matchingIndex = removeMatchingElementIndex(actualElement, candidateIndexes, expectedElements, path, comparisonState);
+      if (matchingIndex < 0) unmatchedActualElements.add(actualElement);
+      else matchedExpectedElements[matchingIndex] = true;
+    }
+
+    // at least one actual element not matching any expected elements.
+    if (!unmatchedActualElements.isEmpty()) {
+      List<Object> unmatchedExpectedElements = new ArrayList<>();
+      for (int i = 0; i < expectedSize; i++) {
+        if (!matchedExpectedElements[i]) unmatchedExpectedElements.add(expectedElements.get(i));
+      }
+      // formatted with the configured representation to honor its limits, unmatched elements can be numerous
+      Representation representation = CONFIGURATION_PROVIDER.representation();
+      comparisonState.addDifference(dualValue, UNMATCHED_ELEMENTS, representation.toStringOf(unmatchedActualElements),
+                                    representation.toStringOf(unmatchedExpectedElements));
+    }
+  }
+
+  // marks the expected elements having an identical actual element as matched and returns the other actual elements.
+  private static List<Object> matchIdenticalElements(List<Object> actualElements, List<Object> expectedElements,
+                                                     boolean[] matchedExpectedElements) {
+    Map<Object, Deque<Integer>> expectedIndexesByElement = new IdentityHashMap<>();
+    for (int i = 0; i < expectedElements.size(); i++) {
+      expectedIndexesByElement.computeIfAbsent(expectedElements.get(i), element -> new ArrayDeque<>()).add(i);
+    }
+    List<Object> remainingActualElements = new ArrayList<>();
+    for (Object actualElement : actualElements) {
+      Deque<Integer> expectedIndexes = expectedIndexesByElement.get(actualElement);
+      if (expectedIndexes == null || expectedIndexes.isEmpty()) remainingActualElements.add(actualElement);
+      else matchedExpectedElements[expectedIndexes.removeFirst()] = true;
+    }
+    return remainingActualElements;
+  }
+
+  // compare recursively actualElement to the candidate expected elements, returns and removes the index of the first
+  // matching one or -1 if none matches.
+  private static int removeMatchingElementIndex(Object actualElement, List<Integer> candidateIndexes,
+                                                List<Object> expectedElements, FieldPath path,
+                                                ComparisonState comparisonState) {
+    Iterator<Integer> candidateIterator = candidateIndexes.iterator();
+    while (candidateIterator.hasNext()) {
+      int expectedIndex = candidateIterator.next();
+      // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion, the ones
+      // visited by this trial are kept apart so that it does not prevent other comparisons from comparing them (a
+      // difference they would report would be lost as the differences of a failed trial are discarded).
+      Set<DualValue> trialVisitedDualValues = new TrialVisitedDualValues(comparisonState.visitedDualValues);
+      List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElements.get(expectedIndex), path,
+                                                                    trialVisitedDualValues,
+                                                                    comparisonState.recursiveComparisonConfiguration);
+      if (differences.isEmpty()) {
+        // we found an element in expected matching actualElement, we must remove it as if actual matches expected
+        // it means for each actual element there is one and only matching expected element.
+        candidateIterator.remove();
+        return expectedIndex;
+      }
+    }
+    return -1;
+  }
+
+  /*
+   * Computes a cheap fingerprint of each element, two elements matching in the recursive comparison must have the same
+   * fingerprint (the opposite is not true). Only the elements not matched by identity are given, reading their fields
+   * (possibly through getters) a second time is the price to pay to avoid comparing all of them to each other.
+   *
+   * Elements are only fingerprinted when they all have the same type and either are basic values (String, boxed
+   * primitives or enums) fingerprinted with their hash code or are compared field by field, the fingerprint then
+   * combines the hash codes of the non ignored fields holding basic values for all elements and having no custom
+   * comparator. In any other cases fingerprints are left to 0 and all elements are compared to each other.
+   */
+  private static void computeFingerprints(List<Object> actualElements, List<Object> expectedElements, FieldPath path,
+                                          RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                          int[] actualFingerprints, int[] expectedFingerprints) {
+    // ignoring actual null fields makes the comparison asymmetric
+    if (recursiveComparisonConfiguration.getIgnoreAllActualNullFields()) return;
+    Class<?> elementType = commonElementType(actualElements, expectedElements);
+    if (elementType == null || elementType.isArray() || Collection.class.isAssignableFrom(elementType)
+        || Map.class.isAssignableFrom(elementType)) return;
+    // elements compared with a custom comparator are not compared field by field
+    String elementPath = path.getConcatenatedPath();
+    if (recursiveComparisonConfiguration.hasComparatorForField(elementPath)
+        || recursiveComparisonConfiguration.hasComparatorForType(elementType))
+      return;
+    if (isBasicValueType(elementType, recursiveComparisonConfiguration)) {
+      // basic values are compared with equals and fingerprinted with their hash code
+      for (int i = 0; i < actualFingerprints.length; i++) {
+        actualFingerprints[i] = basicValueHashCode(actualElements.get(i));
+      }
+      for (int i = 0; i < expectedFingerprints.length; i++) {
+        expectedFingerprints[i] = basicValueHashCode(expectedElements.get(i));
+      }
+      return;
+    }
+    List<String> fieldNames = new ArrayList<>();
+    for (String fieldName : getNonIgnoredFieldNames(elementType, elementPath, recursiveComparisonConfiguration)) {
+      if (!recursiveComparisonConfiguration.hasComparatorForField(path.child(fieldName).getConcatenatedPath())) {
+        fieldNames.add(fieldName);
+      }
+    }
+    if (fieldNames.isEmpty()) return;
+    int fieldCount = fieldNames.size();
+    List<Object> elements = new ArrayList<>(actualElements);
+    elements.addAll(expectedElements);
+    Object[][] fieldValues = new Object[elements.size()][];
+    boolean[] isBasicValueField = new boolean[fieldCount];
+    Arrays.fill(isBasicValueField, true);
+    for (int i = 0; i < fieldValues.length; i++) {
+      Object element = elements.get(i);
+      if (element == null) continue;
+      fieldValues[i] = new Object[fieldCount];
+      for (int f = 0; f < fieldCount; f++) {
+        if (!isBasicValueField[f]) continue;
+        Object fieldValue = COMPARISON.getSimpleValue(fieldNames.get(f), element);
+        fieldValues[i][f] = fieldValue;
+        if (fieldValue != null && !isBasicValue(fieldValue, recursiveComparisonConfiguration)) isBasicValueField[f] = false;
+      }
+    }
+    for (int i = 0; i < fieldValues.length; i++) {
+      int fingerprint = 0;
+      if (fieldValues[i] != null) {
+        for (int f = 0; f < fieldCount; f++) {
+          if (isBasicValueField[f]) fingerprint = 31 * fingerprint + basicValueHashCode(fieldValues[i][f]);
         }
       }
+      if (i < actualFingerprints.length) actualFingerprints[i] = fingerprint;
+      else expectedFingerprints[i - actualFingerprints.length] = fingerprint;
     }
+  }
+
+  private static Class<?> commonElementType(List<Object> actualElements, List<Object> expectedElements) {
+    Class<?> elementType = null;
+    for (List<Object> elements : list(actualElements, expectedElements)) {
+      for (Object element : elements) {
+        if (element == null) continue;
+        if (elementType == null) elementType = element.getClass();
+        else if (elementType != element.getClass()) return null;
+      }
+    }
+    return elementType;
+  }
+
+  private static boolean isBasicValue(Object value, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return isBasicValueType(value.getClass(), recursiveComparisonConfiguration);
+  }
+
+  // basic values are always compared with equals, their hashCode is consistent with it.
+  private static boolean isBasicValueType(Class<?> type, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    if (recursiveComparisonConfiguration.hasComparatorForType(type)) return false;
+    return type == String.class || type == Boolean.class || type == Character.class || Enum.class.isAssignableFrom(type)
+           || type == Byte.class || type == Short.class || type == Integer.class || type == Long.class
+           || type == Float.class || type == Double.class;
+  }
 
-    // expectedCopy not empty = there was at least one actual element not matching any expected elements.
-    if (!expectedCopy.isEmpty()) comparisonState.addDifference(dualValue);
-    // TODO instead we could register the diff between expected and actual that is:
-    // - unexpected actual elements (the ones not matching any expected)
-    // - expected elements not found in actual.
+  private static int basicValueHashCode(Object value) {
+    if (value == null) return 0;
+    // enums overridden equals can be ignored, in that case enums from different types with the same name match
+    if (value instanceof Enum) return ((Enum<?>) value).name().hashCode();
+    return value.hashCode();
   }
 
   private static <K, V> void compareSortedMap(DualValue dualValue, ComparisonState comparisonState) {
@@ -436,13 +765,13 @@ public class RecursiveComparisonDifferenceCalculator {
       // - unexpected actual entries (the ones not matching any expected)
       // - expected entries not found in actual.
     }
-    List<String> path = dualValue.getPath();
+    FieldPath path = dualValue.fieldPath;
     Iterator<Map.Entry<K, V>> expectedMapEntries = expectedMap.entrySet().iterator();
     for (Map.Entry<?, ?> actualEntry : actualMap.entrySet()) {
       Map.Entry<?, ?> expectedEntry = expectedMapEntries.next();
       // Must split the Key and Value so that Map.Entry's equals() method is not used.
-      comparisonState.registerForComparison(new DualValue(path, actualEntry.getKey(), expectedEntry.getKey()));
-      comparisonState.registerForComparison(new DualValue(path, actualEntry.getValue(), expectedEntry.getValue()));
+      comparisonState.registerIndependentForComparison(new DualValue(path, actualEntry.getKey(), expectedEntry.getKey()));
+      comparisonState.registerIndependentForComparison(new DualValue(path, actualEntry.getValue(), expectedEntry.getValue()));
     }
   }
 
@@ -465,7 +794,7 @@ public class RecursiveComparisonDifferenceCalculator {
 
     Map<Integer, Map.Entry<?, ?>> fastLookup = expectedMap.entrySet().stream()
                                                           .collect(toMap(entry -> deepHashCode(entry.getKey()), entry -> entry));
-    List<String> path = dualValue.getPath();
+    FieldPath path = dualValue.fieldPath;
     for (Map.Entry<?, ?> actualEntry : actualMap.entrySet()) {
       int deepHashCode = deepHashCode(actualEntry.getKey());
       if (!fastLookup.containsKey(deepHashCode)) {
@@ -475,8 +804,8 @@ public class RecursiveComparisonDifferenceCalculator {
       }
       Map.Entry<?, ?> expectedEntry = fastLookup.get(deepHashCode);
       // Must split the Key and Value so that Map.Entry's equals() method is not used.
-      comparisonState.registerForComparison(new DualValue(path, actualEntry.getKey(), expectedEntry.getKey()));
-      comparisonState.registerForComparison(new DualValue(path, actualEntry.getValue(), expectedEntry.getValue()));
+      comparisonState.registerIndependentForComparison(new DualValue(path, actualEntry.getKey(), expectedEntry.getKey()));
+      comparisonState.registerIndependentForComparison(new DualValue(path, actualEntry.getValue(), expectedEntry.getValue()));
     }
   }
 
@@ -499,8 +828,7 @@ public class RecursiveComparisonDifferenceCalculator {
     Object value1 = actual.get();
     Object value2 = expected.get();
     // we add VALUE_FIELD_NAME to the path since we register Optional.value fields.
-    List<String> path = new ArrayList<>(dualValue.getPath());
-    path.add(VALUE_FIELD_NAME);
+    FieldPath path = dualValue.fieldPath.child(VALUE_FIELD_NAME);
     comparisonState.registerForComparison(new DualValue(path, value1, value2));
   }
 
@@ -43,6 +43,7 @@ public class Configuration {
   public static final boolean ALLOW_EXTRACTING_PRIVATE_FIELDS = true;
   public static final boolean BARE_NAME_PROPERTY_EXTRACTION_ENABLED = true;
   public static final boolean LENIENT_DATE_PARSING = false;
+  public static final int MAX_DELTAS_FOR_CONTENT_DIFF = Integer.MAX_VALUE;
 
   /**
    * @return the default {@link Representation} that is used within AssertJ.
@@ -144,6 +145,18 @@ public class Configuration {
     return MAX_ELEMENTS_FOR_PRINTING;
   }
 
+  /**
+   * Returns the maximum number of differences reported when comparing the content of files, paths or input streams.
+   * <p>
+   * See {@link Assertions#setMaxDeltasForContentDiff(int)} for a detailed description.
+   *
+   * @return the maximum number of differences reported when comparing contents. Default is {@value #MAX_DELTAS_FOR_CONTENT_DIFF}.
+   * @since 3.13.0
+   */
+  public int maxDeltasForContentDiff() {
+    return MAX_DELTAS_FOR_CONTENT_DIFF;
+  }
+
   /**
    * Applies this configuration to AssertJ.
    */
@@ -154,11 +167,28 @@ public class Configuration {
     Assertions.setLenientDateParsing(lenientDateParsingEnabled());
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting());
     Assertions.setMaxLengthForSingleLineDescription(maxLengthForSingleLineDescription());
+    Assertions.setMaxDeltasForContentDiff(maxDeltasForContentDiff());
     Assertions.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTraceEnabled());
     Assertions.useRepresentation(representation());
     additionalDateFormats().forEach(Assertions::registerCustomDateFormat);
   }
 
+  /**
+   * Applies this configuration to the current thread until the returned scope is closed.
+   * <p>
+   * Unlike {@link #apply()}, this does not change the global AssertJ settings, other threads are not affected.
+   * <pre><code class='java'> try (ConfigurationScope scope = new MyConfiguration().openScope()) {
+   *   // assertions in this thread use MyConfiguration settings
+   * }</code></pre>
+   *
+   * @return the opened scope, to be closed when the configuration should not apply anymore.
+   * @see ConfigurationScope
+   * @since 3.13.0
+   */
+  public ConfigurationScope openScope() {
+    return ConfigurationScope.open(this);
+  }
+
   public String describe() {
     return format("- representation .................................. = %s%n" +
                   "- comparingPrivateFieldsEnabled ................... = %s%n" +
@@ -168,6 +198,7 @@ public class Configuration {
                   "- additionnal date formats ........................ = %s%n" +
                   "- maxLengthForSingleLineDescription ............... = %s%n" +
                   "- maxElementsForPrinting .......................... = %s%n" +
+                  "- maxDeltasForContentDiff ......................... = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n",
                   representation(),
                   comparingPrivateFieldsEnabled(),
@@ -177,6 +208,7 @@ public class Configuration {
                   describeAdditionalDateFormats(),
                   maxLengthForSingleLineDescription(),
                   maxElementsForPrinting(),
+                  maxDeltasForContentDiff(),
                   removeAssertJRelatedElementsFromStackTraceEnabled());
   }
 
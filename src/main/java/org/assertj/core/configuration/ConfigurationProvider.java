@@ -55,21 +55,27 @@ public final class ConfigurationProvider {
    * <li>a registered {@link Representation}</li>
    * </ul>
    * If no custom representation was registered, the {@link StandardRepresentation} will be used.
+   * <p>
+   * The representation of the {@link ConfigurationScope} applying to the current thread takes precedence.
    *
    * @return the default {@link Representation} that needs to be used within AssertJ
    * @since 2.9.0 / 3.9.0
    */
   public Representation representation() {
+    ConfigurationScope scope = ConfigurationScope.current();
+    if (scope != null) return scope.representation();
     return configuration.hasCustomRepresentation() ? configuration.representation() : representation;
   }
 
   /**
-   * Returns the configuration used in for all tests.
+   * Returns the configuration used in for all tests or the one of the {@link ConfigurationScope} applying to the
+   * current thread.
    *
-   * @return the configuration applied for all tests.
+   * @return the configuration applied for all tests or for the current scope.
    * @since 3.13.0
    */
   public Configuration configuration() {
-    return configuration;
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? configuration : scope.configuration();
   }
 }
@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.configuration;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.util.function.Supplier;
+
+import org.assertj.core.presentation.Representation;
+
+/**
+ * A {@link Configuration} applied to the thread opening it instead of the global AssertJ settings. This lets tests
+ * running in parallel use different configurations.
+ * <p>
+ * The threads started by the thread opening the scope don't inherit it (pooled threads would keep applying it to
+ * unrelated tests), AssertJ applies it to the threads it uses on behalf of the scope thread like the ones of parallel
+ * recursive comparisons, other threads can use {@link #callWithin(ConfigurationScope, Supplier)}.
+ * <p>
+ * A scope is opened with {@link Configuration#openScope()} and closed with {@link #close()}, it is best used in a
+ * try-with-resources statement:
+ * <pre><code class='java'> try (ConfigurationScope scope = new MyConfiguration().openScope()) {
+ *   // assertions in this thread use MyConfiguration settings
+ * }</code></pre>
+ * The settings are read from the configuration when the scope is opened, scopes can be nested, closing a scope
+ * reactivates the enclosing one.
+ * <p>
+ * The scoped settings are the representation, private fields comparison and extraction, bare name property
+ * extraction, lenient date parsing, the removal of AssertJ elements from stack traces, the representation limits and
+ * the maximum number of deltas reported by content diffs.
+ * Additional date formats and formatters registered per type remain global.
+ *
+ * @since 3.13.0
+ */
+public final class ConfigurationScope implements AutoCloseable {
+
+  private static final ThreadLocal<ConfigurationScope> CURRENT = new ThreadLocal<>();
+  // avoids looking up the current scope until the first one is opened
+  private static volatile boolean opened;
+
+  private final Configuration configuration;
+  private final ConfigurationScope enclosingScope;
+  private volatile boolean closed;
+
+  private final Representation representation;
+  private final boolean comparingPrivateFieldsEnabled;
+  private final boolean extractingPrivateFieldsEnabled;
+  private final boolean bareNamePropertyExtractionEnabled;
+  private final boolean lenientDateParsingEnabled;
+  private final boolean removeAssertJRelatedElementsFromStackTraceEnabled;
+  private final int maxLengthForSingleLineDescription;
+  private final int maxElementsForPrinting;
+  private final int maxDeltasForContentDiff;
+
+  private ConfigurationScope(Configuration configuration, ConfigurationScope enclosingScope) {
+    this.configuration = configuration;
+    this.enclosingScope = enclosingScope;
+    representation = checkNotNull(configuration.representation(), "The representation should not be null");
+    comparingPrivateFieldsEnabled = configuration.comparingPrivateFieldsEnabled();
+    extractingPrivateFieldsEnabled = configuration.extractingPrivateFieldsEnabled();
+    bareNamePropertyExtractionEnabled = configuration.bareNamePropertyExtractionEnabled();
+    lenientDateParsingEnabled = configuration.lenientDateParsingEnabled();
+    removeAssertJRelatedElementsFromStackTraceEnabled = configuration.removeAssertJRelatedElementsFromStackTraceEnabled();
+    maxLengthForSingleLineDescription = configuration.maxLengthForSingleLineDescription();
+    checkArgument(maxLengthForSingleLineDescription > 0, "maxLengthForSingleLineDescription must be > 0 but was %s",
+                  maxLengthForSingleLineDescription);
+    maxElementsForPrinting = configuration.maxElementsForPrinting();
+    checkArgument(maxElementsForPrinting >= 1, "maxElementsForPrinting must be >= 1, but was %s", maxElementsForPrinting);
+    maxDeltasForContentDiff = configuration.maxDeltasForContentDiff();
+    checkArgument(maxDeltasForContentDiff > 0, "The maximum number of deltas must be strictly positive but was %s",
+                  maxDeltasForContentDiff);
+  }
+
+  static ConfigurationScope open(Configuration configuration) {
+    ConfigurationScope scope = new ConfigurationScope(configuration, current());
+    CURRENT.set(scope);
+    opened = true;
+    return scope;
+  }
+
+  /**
+   * Returns the scope applying to the current thread.
+   *
+   * @return the scope applying to the current thread or {@code null} if the global settings apply.
+   */
+  public static ConfigurationScope current() {
+    if (!opened) return null;
+    ConfigurationScope scope = CURRENT.get();
+    // the scope applied to this thread may have been closed since
+    while (scope != null && scope.closed) {
+      scope = scope.enclosingScope;
+    }
+    return scope;
+  }
+
+  /**
+   * Calls the given supplier with the given scope applying to the current thread, the scope applying before to the
+   * current thread applies again after the call.
+   *
+   * @param <T> the type of the result of the supplier.
+   * @param scope the scope to apply, {@code null} to apply the global settings.
+   * @param supplier the supplier to call.
+   * @return the result of the supplier.
+   */
+  public static <T> T callWithin(ConfigurationScope scope, Supplier<T> supplier) {
+    ConfigurationScope previousScope = CURRENT.get();
+    CURRENT.set(scope);
+    try {
+      return supplier.get();
+    } finally {
+      if (previousScope == null) CURRENT.remove();
+      else CURRENT.set(previousScope);
+    }
+  }
+
+  /**
+   * Closes this scope, the enclosing scope or the global settings apply again to the threads using it.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    if (CURRENT.get() == this) CURRENT.set(enclosingScope);
+  }
+
+  public Configuration configuration() {
+    return configuration;
+  }
+
+  public Representation representation() {
+    return representation;
+  }
+
+  public boolean comparingPrivateFieldsEnabled() {
+    return comparingPrivateFieldsEnabled;
+  }
+
+  public boolean extractingPrivateFieldsEnabled() {
+    return extractingPrivateFieldsEnabled;
+  }
+
+  public boolean bareNamePropertyExtractionEnabled() {
+    return bareNamePropertyExtractionEnabled;
+  }
+
+  public boolean lenientDateParsingEnabled() {
+    return lenientDateParsingEnabled;
+  }
+
+  public boolean removeAssertJRelatedElementsFromStackTraceEnabled() {
+    return removeAssertJRelatedElementsFromStackTraceEnabled;
+  }
+
+  public int maxLengthForSingleLineDescription() {
+    return maxLengthForSingleLineDescription;
+  }
+
+  public int maxElementsForPrinting() {
+    return maxElementsForPrinting;
+  }
+
+  public int maxDeltasForContentDiff() {
+    return maxDeltasForContentDiff;
+  }
+}
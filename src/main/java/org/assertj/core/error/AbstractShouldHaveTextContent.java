@@ -12,11 +12,13 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
 
 import java.util.List;
 
 import org.assertj.core.description.Description;
+import org.assertj.core.internal.Diff.TruncatedDeltas;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.diff.Delta;
 
@@ -51,7 +53,10 @@ public class AbstractShouldHaveTextContent extends BasicErrorMessageFactory {
   }
 
   protected static String diffsAsString(List<Delta<String>> diffsList) {
-    return diffsList.stream().map(Delta::toString).collect(joining(System.lineSeparator()));
+    String diffs = diffsList.stream().map(Delta::toString).collect(joining(System.lineSeparator()));
+    // the diff may only keep the first deltas, the reader must know the diff is not complete
+    if (!(diffsList instanceof TruncatedDeltas)) return diffs;
+    return diffs + format("%n... and %s more differences", ((TruncatedDeltas) diffsList).getOmittedDeltasCount());
   }
 
 }
\ No newline at end of file
@@ -22,14 +22,15 @@ import org.assertj.core.api.SoftAssertionError;
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.util.VisibleForTesting;
-import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 
 // TODO deprecate AssertionErrorFactory
 public class AssertionErrorCreator {
 
   private static final Class<?>[] MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR = array(String.class, Object.class, Object.class);
 
-  private static final Class<?>[] MULTIPLE_FAILURES_ERROR_ARGUMENT_TYPES = array(String.class, List.class);
+  private static final String ASSERTION_FAILED_ERROR = "org.opentest4j.AssertionFailedError";
+
+  private static final String MULTIPLE_FAILURES_ERROR = "org.opentest4j.MultipleFailuresError";
 
   @VisibleForTesting
   ConstructorInvoker constructorInvoker;
@@ -49,8 +50,9 @@ public class AssertionErrorCreator {
   }
 
   private Optional<AssertionError> assertionFailedError(String message, Object actual, Object expected) {
+    if (constructorInvoker.isNotInClasspath(ASSERTION_FAILED_ERROR)) return Optional.empty();
     try {
-      Object o = constructorInvoker.newInstance("org.opentest4j.AssertionFailedError",
+      Object o = constructorInvoker.newInstance(ASSERTION_FAILED_ERROR,
                                                 MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR,
                                                 message,
                                                 expected,
@@ -103,26 +105,12 @@ public class AssertionErrorCreator {
   private Optional<AssertionError> tryBuildingMultipleFailuresError(String heading,
                                                                     List<? extends Throwable> errorsCollected) {
     if (errorsCollected.isEmpty()) return Optional.empty();
-    try {
-      Object[] constructorArguments = array(heading, errorsCollected);
-      Object multipleFailuresError = constructorInvoker.newInstance("org.opentest4j.MultipleFailuresError",
-                                                                    MULTIPLE_FAILURES_ERROR_ARGUMENT_TYPES,
-                                                                    constructorArguments);
-      if (multipleFailuresError instanceof AssertionError) { // means that we were able to build a MultipleFailuresError
-        List<Throwable> failures = extractFailuresOf(multipleFailuresError);
-        // we switch to AssertJMultipleFailuresError in order to control the formatting of the error message.
-        AssertionError assertionError = new AssertJMultipleFailuresError(heading, failures);
-        Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
-        return Optional.of(assertionError);
-      }
-    } catch (Exception e) {
-      // do nothing, MultipleFailuresError was not in the classpath
-    }
-    return Optional.empty();
-  }
-
-  private static List<Throwable> extractFailuresOf(Object multipleFailuresError) {
-    return (List<Throwable>) PropertyOrFieldSupport.EXTRACTION.getValueOf("failures", multipleFailuresError);
+    // AssertJMultipleFailuresError extends MultipleFailuresError and can only be built when it is in the classpath
+    if (constructorInvoker.isNotInClasspath(MULTIPLE_FAILURES_ERROR)) return Optional.empty();
+    // we use AssertJMultipleFailuresError in order to control the formatting of the error message.
+    AssertionError assertionError = new AssertJMultipleFailuresError(heading, errorsCollected);
+    Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
+    return Optional.of(assertionError);
   }
 
 }
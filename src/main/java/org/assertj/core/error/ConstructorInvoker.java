@@ -12,13 +12,27 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Classes and constructors are resolved once, including the classes that are not in the classpath, the constructors
+ * are then invoked through cached {@link MethodHandle}s.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
@@ -27,11 +41,68 @@ public class ConstructorInvoker {
 
   public static final ConstructorInvoker CONSTRUCTOR_INVOKER = new ConstructorInvoker();
 
+  private static final Map<String, Optional<Class<?>>> CLASS_BY_NAME = new ConcurrentHashMap<>();
+  private static final Map<List<Class<?>>, MethodHandle> CONSTRUCTOR_BY_SIGNATURE = new ConcurrentHashMap<>();
+
   public Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
+    Class<?> targetType = classForName(className).orElseThrow(() -> new ClassNotFoundException(className));
+    MethodHandle constructor = constructorOf(targetType, parameterTypes);
+    try {
+      return constructor.invokeExact(parameterValues);
+    } catch (Throwable e) {
+      // wrap what the constructor throws as Constructor.newInstance does
+      throw new InvocationTargetException(e);
+    }
+  }
+
+  /**
+   * Returns whether the class with the given name is known not to be in the classpath, which allows skipping the
+   * creation of its instances without going through a {@link ClassNotFoundException}.
+   *
+   * @param className the name of the class.
+   * @return {@code true} if the class is not in the classpath, {@code false} otherwise.
+   */
+  public boolean isNotInClasspath(String className) {
+    return !classForName(className).isPresent();
+  }
+
+  private static Optional<Class<?>> classForName(String className) {
+    Optional<Class<?>> type = CLASS_BY_NAME.get(className);
+    if (type == null) {
+      type = loadClass(className);
+      CLASS_BY_NAME.put(className, type);
+    }
+    return type;
+  }
+
+  private static Optional<Class<?>> loadClass(String className) {
+    try {
+      return Optional.of(Class.forName(className));
+    } catch (ClassNotFoundException | LinkageError e) {
+      return Optional.empty();
+    }
+  }
+
+  private MethodHandle constructorOf(Class<?> targetType, Class<?>[] parameterTypes) throws Exception {
+    List<Class<?>> signature = new ArrayList<>(parameterTypes.length + 1);
+    signature.add(targetType);
+    Collections.addAll(signature, parameterTypes);
+    MethodHandle constructor = CONSTRUCTOR_BY_SIGNATURE.get(signature);
+    if (constructor == null) {
+      constructor = constructorHandle(targetType, parameterTypes);
+      CONSTRUCTOR_BY_SIGNATURE.put(signature, constructor);
+    }
+    return constructor;
+  }
+
+  // the handle takes the constructor arguments as an Object[] and returns an Object to be invoked with invokeExact
+  private MethodHandle constructorHandle(Class<?> targetType, Class<?>[] parameterTypes) throws Exception {
     Constructor<?> constructor = targetType.getConstructor(parameterTypes);
     setAccessible(constructor, true);
-    return constructor.newInstance(parameterValues);
+    return MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asFixedArity()
+                        .asSpreader(Object[].class, parameterTypes.length)
+                        .asType(methodType(Object.class, Object[].class));
   }
 
   private void setAccessible(AccessibleObject accessible, boolean value) {
@@ -183,6 +183,7 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   }
 
   private AssertionError assertionFailedError(String message) {
+    if (constructorInvoker.isNotInClasspath("org.opentest4j.AssertionFailedError")) return null;
     try {
       Object o = constructorInvoker.newInstance("org.opentest4j.AssertionFailedError",
                                                 MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR,
@@ -201,6 +202,7 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   }
 
   private AssertionError comparisonFailure(Description description) {
+    if (constructorInvoker.isNotInClasspath("org.junit.ComparisonFailure")) return null;
     try {
       AssertionError comparisonFailure = newComparisonFailure(descriptionFormatter.format(description).trim());
       Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(comparisonFailure);
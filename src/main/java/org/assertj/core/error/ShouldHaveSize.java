@@ -32,6 +32,22 @@ public class ShouldHaveSize extends BasicErrorMessageFactory {
     return new ShouldHaveSize(actual, actualSize, expectedSize);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveSize}</code> when {@code actual} has more elements than the expected size but
+   * its actual size is not known, for example when a stream is only consumed up to {@code expectedSize + 1} elements.
+   * @param actual the actual value in the failed assertion.
+   * @param expectedSize the expected size.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSizeButHasMoreElements(Object actual, int expectedSize) {
+    return new ShouldHaveSize(actual, expectedSize);
+  }
+
+  private ShouldHaveSize(Object actual, int expectedSize) {
+    super(format("%nExpected size:<%s> but had more than <%s> elements in:%n<%s>", expectedSize, expectedSize, "%s"),
+          actual);
+  }
+
   private ShouldHaveSize(Object actual, int actualSize, int expectedSize) {
     // format the sizes in a standard way, otherwise if we use (for ex) an Hexadecimal representation
     // it will format sizes in hexadecimal while we only want actual to be formatted in hexadecimal
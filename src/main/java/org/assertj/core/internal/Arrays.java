@@ -83,6 +83,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -195,6 +196,7 @@ public class Arrays {
   @VisibleForTesting
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (canUseStandardPrimitiveArrays(actual, values) && StandardPrimitiveArrays.containsAll(actual, values)) return;
     Set<Object> notFound = new LinkedHashSet<>();
     int valueCount = sizeOf(values);
     for (int i = 0; i < valueCount; i++) {
@@ -242,13 +244,27 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (canUseStandardPrimitiveArrays(actual, values) && StandardPrimitiveArrays.containsOnly(actual, values)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterableRemoves(notExpected, value);
-        iterableRemoves(notFound, value);
+    Function<Object, Object> keyFunction = HashMultiset.keyFunction(comparisonStrategy, notExpected, notFound);
+    if (keyFunction != null) {
+      // same result as the for loop below but in linear time
+      List<Object> actualValues = notExpected;
+      notExpected = HashMultiset.notIn(actualValues, notFound, keyFunction);
+      notFound = HashMultiset.notIn(notFound, actualValues, keyFunction);
+    } else if (totalOrderComparator() != null) {
+      // same result as the for loop below but in O(n log n) time
+      List<Object> actualValues = notExpected;
+      notExpected = SortedMultiset.notIn(actualValues, notFound, totalOrderComparator());
+      notFound = SortedMultiset.notIn(notFound, actualValues, totalOrderComparator());
+    } else {
+      for (Object value : asList(values)) {
+        if (iterableContains(notExpected, value)) {
+          iterableRemoves(notExpected, value);
+          iterableRemoves(notFound, value);
+        }
       }
     }
 
@@ -273,6 +289,7 @@ public class Arrays {
 
   void assertContainsExactly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (canUseStandardPrimitiveArrays(actual, values) && StandardPrimitiveArrays.containsExactly(actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
 
@@ -299,10 +316,23 @@ public class Arrays {
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
+    Function<Object, Object> keyFunction = HashMultiset.keyFunction(comparisonStrategy, notExpected, notFound);
+    if (keyFunction != null) {
+      // same result as the for loop below but in linear time
+      List<Object> actualValues = notExpected;
+      notExpected = HashMultiset.subtract(actualValues, notFound, keyFunction);
+      notFound = HashMultiset.subtract(notFound, actualValues, keyFunction);
+    } else if (totalOrderComparator() != null) {
+      // same result as the for loop below but in O(n log n) time
+      List<Object> actualValues = notExpected;
+      notExpected = SortedMultiset.subtract(actualValues, notFound, totalOrderComparator());
+      notFound = SortedMultiset.subtract(notFound, actualValues, totalOrderComparator());
+    } else {
+      for (Object value : asList(values)) {
+        if (iterableContains(notExpected, value)) {
+          iterablesRemoveFirst(notExpected, value);
+          iterablesRemoveFirst(notFound, value);
+        }
       }
     }
 
@@ -330,6 +360,10 @@ public class Arrays {
     // assertion succeeded
   }
 
+  private Comparator<?> totalOrderComparator() {
+    return SortedMultiset.totalOrderComparatorOf(comparisonStrategy);
+  }
+
   private boolean iterableContains(Iterable<?> actual, Object value) {
     return comparisonStrategy.iterableContains(actual, value);
   }
@@ -344,6 +378,7 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
+    if (canUseStandardPrimitiveArrays(actual, sequence) && StandardPrimitiveArrays.containsSequence(actual, sequence)) return;
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
     int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
     for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
@@ -459,6 +494,7 @@ public class Arrays {
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
+    if (canUseStandardPrimitiveArrays(array, values) && StandardPrimitiveArrays.containsNone(array, values)) return;
     Set<Object> found = new LinkedHashSet<>();
     int valuesSize = sizeOf(values);
     for (int i = 0; i < valuesSize; i++) {
@@ -474,6 +510,7 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    if (canUseStandardPrimitiveArrays(array, array) && StandardPrimitiveArrays.hasNoDuplicates(array)) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
@@ -492,6 +529,15 @@ public class Arrays {
     }
   }
 
+  /**
+   * Returns whether the assertion can first be checked with {@link StandardPrimitiveArrays} which does not box the
+   * elements of large primitive arrays, the generic code is still used to report failures.
+   */
+  private boolean canUseStandardPrimitiveArrays(Object actual, Object values) {
+    return comparisonStrategy.getClass() == StandardComparisonStrategy.class
+           && StandardPrimitiveArrays.supports(actual, values);
+  }
+
   private static boolean commonChecks(AssertionInfo info, Object actual, Object sequence) {
     checkNulls(info, actual, sequence);
     // if both actual and values are empty arrays, then assertion passes.
@@ -532,12 +578,18 @@ public class Arrays {
   public void assertIsSubsetOf(AssertionInfo info, Failures failures, Object actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = newArrayList();
-    int sizeOfActual = sizeOf(actual);
-    for (int i = 0; i < sizeOfActual; i++) {
-      Object actualElement = Array.get(actual, i);
-      if (!iterableContains(values, actualElement)) {
-        extra.add(actualElement);
+    List<Object> extra;
+    if (totalOrderComparator() != null) {
+      // same result as the for loop below but in O(n log n) time
+      extra = SortedMultiset.notIn(asList(actual), newArrayList(values), totalOrderComparator());
+    } else {
+      extra = newArrayList();
+      int sizeOfActual = sizeOf(actual);
+      for (int i = 0; i < sizeOfActual; i++) {
+        Object actualElement = Array.get(actual, i);
+        if (!iterableContains(values, actualElement)) {
+          extra.add(actualElement);
+        }
       }
     }
     if (extra.size() > 0) {
@@ -677,6 +729,7 @@ public class Arrays {
     }
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0) return;
+    if (canUseStandardPrimitiveArrays(array, array) && StandardPrimitiveArrays.isSorted(array)) return;
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
       // sorted assertion is only relevant if array elements are Comparable
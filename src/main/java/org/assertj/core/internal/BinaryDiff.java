@@ -16,6 +16,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -30,6 +31,9 @@ import org.assertj.core.util.VisibleForTesting;
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int BLOCK_SIZE = 8192;
+  private static final int EOF = -1;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
@@ -45,13 +49,54 @@ public class BinaryDiff {
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    // streams are compared block by block, each block being compared a long at a time
+    byte[] actualBlock = new byte[BLOCK_SIZE];
+    byte[] expectedBlock = new byte[BLOCK_SIZE];
+    ByteBuffer actualWords = ByteBuffer.wrap(actualBlock);
+    ByteBuffer expectedWords = ByteBuffer.wrap(expectedBlock);
+    int offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualLength = readBlock(actualStream, actualBlock);
+      int expectedLength = readBlock(expectedStream, expectedBlock);
+      int length = Math.min(actualLength, expectedLength);
+      int index = mismatch(actualWords, expectedWords, length);
+      if (index == -1 && actualLength != expectedLength) index = length; // reached end of one stream only
+      if (index != -1) {
+        return new BinaryDiffResult(offset + index, byteAt(expectedBlock, index, expectedLength),
+                                    byteAt(actualBlock, index, actualLength));
+      }
+      if (length < BLOCK_SIZE) return BinaryDiffResult.noDiff(); // reached end of both streams
+      offset += length;
+    }
+  }
+
+  // fills the given block unless the end of the stream is reached, returns the number of bytes read.
+  private static int readBlock(InputStream stream, byte[] block) throws IOException {
+    int length = 0;
+    while (length < block.length) {
+      int read = stream.read(block, length, block.length - length);
+      if (read == -1) break;
+      length += read;
+    }
+    return length;
+  }
+
+  // returns the index of the first different byte in the given length or -1 if there are none.
+  private static int mismatch(ByteBuffer actualWords, ByteBuffer expectedWords, int length) {
+    int index = 0;
+    for (; index + Long.BYTES <= length; index += Long.BYTES) {
+      long actualWord = actualWords.getLong(index);
+      long expectedWord = expectedWords.getLong(index);
+      // buffers are big-endian, the first different byte is the one holding the highest differing bit
+      if (actualWord != expectedWord) return index + Long.numberOfLeadingZeros(actualWord ^ expectedWord) / Byte.SIZE;
     }
+    for (; index < length; index++) {
+      if (actualWords.get(index) != expectedWords.get(index)) return index;
+    }
+    return -1;
+  }
+
+  private static int byteAt(byte[] block, int index, int length) {
+    return index < length ? block[index] & 0xFF : EOF;
   }
 }
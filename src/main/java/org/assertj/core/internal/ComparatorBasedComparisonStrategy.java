@@ -12,7 +12,10 @@
  */
 package org.assertj.core.internal;
 
+import static org.assertj.core.api.ComparatorOrder.EQUALITY;
+import static org.assertj.core.api.ComparatorOrder.TOTAL_ORDER;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 
 import java.util.Comparator;
@@ -20,6 +23,8 @@ import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
 
+import org.assertj.core.api.ComparatorOrder;
+
 /**
  * Implements {@link ComparisonStrategy} contract with a comparison strategy based on a {@link Comparator}.
  * 
@@ -36,6 +41,9 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
   // Comparator description used in assertion messages.
   private final String comparatorDescription;
 
+  // whether the comparator was declared to define a total order.
+  private final boolean totalOrder;
+
   /**
    * Creates a new <code>{@link ComparatorBasedComparisonStrategy}</code> specifying the comparison strategy with given
    * comparator.
@@ -56,8 +64,25 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
    */
   public ComparatorBasedComparisonStrategy(@SuppressWarnings("rawtypes") Comparator comparator,
                                            String comparatorDescription) {
+    this(comparator, comparatorDescription, EQUALITY);
+  }
+
+  /**
+   * Creates a new <code>{@link ComparatorBasedComparisonStrategy}</code> specifying the comparison strategy with given
+   * comparator, comparator description and what the comparator can be relied upon for.
+   *
+   * @param comparator the comparison strategy to use.
+   * @param comparatorDescription the comparator description to use in assertion messages.
+   * @param comparatorOrder {@link ComparatorOrder#TOTAL_ORDER} if the comparator defines a total order.
+   * @throws NullPointerException if the given comparator order is {@code null}.
+   * @since 3.13.0
+   */
+  public ComparatorBasedComparisonStrategy(@SuppressWarnings("rawtypes") Comparator comparator,
+                                           String comparatorDescription, ComparatorOrder comparatorOrder) {
+    checkNotNull(comparatorOrder, "The comparator order should not be null");
     this.comparator = comparator;
     this.comparatorDescription = comparatorDescription;
+    this.totalOrder = comparatorOrder == TOTAL_ORDER;
   }
 
   /**
@@ -168,6 +193,20 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
     return comparatorDescription;
   }
 
+  /**
+   * Returns true if the comparator was declared to define a total order or is known to (like
+   * {@link Comparator#naturalOrder()}), this allows to sort elements and use binary searches instead of comparing each
+   * element to all the others.
+   *
+   * @return true if the comparator defines a total order, false otherwise.
+   */
+  boolean hasTotalOrderComparator() {
+    return totalOrder
+           || comparator == Comparator.naturalOrder()
+           || comparator == Comparator.reverseOrder()
+           || comparator == String.CASE_INSENSITIVE_ORDER;
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public boolean stringStartsWith(String string, String prefix) {
@@ -186,13 +225,29 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
 
   @Override
   public boolean stringContains(String string, String sequence) {
+    return stringIndexOf(string, sequence, 0) != -1;
+  }
+
+  /**
+   * Returns the index of the first region of the given string equal to the given sequence according to the comparator,
+   * starting at the given index, -1 if there is none.
+   * <p>
+   * Only regions of the sequence length are compared, {@link String#CASE_INSENSITIVE_ORDER} is handled without creating
+   * any region.
+   *
+   * @param string the string to search in.
+   * @param sequence the sequence to search for.
+   * @param fromIndex the index to start the search from.
+   * @return the index of the first region equal to the sequence, -1 if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  int stringIndexOf(String string, String sequence, int fromIndex) {
+    if (comparator == String.CASE_INSENSITIVE_ORDER) return StringSearch.indexOfIgnoringCase(string, sequence, fromIndex);
     int sequenceLength = sequence.length();
-    for (int i = 0; i < string.length(); i++) {
-      String subString = string.substring(i);
-      if (subString.length() < sequenceLength) return false;
-      if (stringStartsWith(subString, sequence)) return true;
+    for (int i = Math.max(fromIndex, 0); i <= string.length() - sequenceLength; i++) {
+      if (comparator.compare(string.substring(i, i + sequenceLength), sequence) == 0) return i;
     }
-    return false;
+    return -1;
   }
 
   @Override
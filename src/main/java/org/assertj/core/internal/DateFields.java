@@ -0,0 +1,284 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static org.assertj.core.util.DateUtil.toCalendar;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.assertj.core.util.DateUtil;
+
+/**
+ * Computes the {@link Calendar} fields of dates in the default time zone and locale like
+ * {@code Calendar.getInstance()} does, but without creating any {@code Calendar}.
+ * <p>
+ * The default time zone rules are cached along with the offset of the last time range without transition, dates are
+ * then converted to local epoch milliseconds and their fields are computed arithmetically.
+ * <p>
+ * {@code Calendar}s are still used when their results could differ from {@code java.time} ones: dates before 1900
+ * (Julian calendar, local mean times), a non Gregorian default calendar (e.g. the Thai or Japanese locales) or a default
+ * time zone unknown to {@code java.time}.
+ */
+final class DateFields {
+
+  private static final long MILLIS_PER_SECOND = 1000;
+  private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+  private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+  private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+  // TimeZone ignores the time zone transitions before 1900-01-01T00:00:00Z, keep a one day margin
+  private static final long FIRST_SUPPORTED_EPOCH_MILLI = -2208988800000L + MILLIS_PER_DAY;
+  // fields compared by areInSame in that order
+  private static final int[] FIELDS = { Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY,
+      Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND };
+  private static final long UNSUPPORTED = Long.MIN_VALUE;
+
+  private static volatile DefaultZone defaultZone;
+
+  static int yearOf(Date date) {
+    long localMillis = localEpochMilli(date);
+    return localMillis == UNSUPPORTED ? DateUtil.yearOf(date) : year(epochDay(localMillis));
+  }
+
+  static int monthOf(Date date) {
+    long localMillis = localEpochMilli(date);
+    return localMillis == UNSUPPORTED ? DateUtil.monthOf(date) : month(epochDay(localMillis));
+  }
+
+  static int dayOfMonthOf(Date date) {
+    long localMillis = localEpochMilli(date);
+    return localMillis == UNSUPPORTED ? DateUtil.dayOfMonthOf(date) : dayOfMonth(epochDay(localMillis));
+  }
+
+  static int dayOfWeekOf(Date date) {
+    long localMillis = localEpochMilli(date);
+    // epoch day 0 is a thursday, Calendar.THURSDAY = 5
+    return localMillis == UNSUPPORTED ? DateUtil.dayOfWeekOf(date) : (int) floorMod(epochDay(localMillis) + 4, 7) + 1;
+  }
+
+  static int hourOfDayOf(Date date) {
+    long localMillis = localEpochMilli(date);
+    return localMillis == UNSUPPORTED ? DateUtil.hourOfDayOf(date) : fieldOf(localMillis, MILLIS_PER_HOUR, 24);
+  }
+
+  static int minuteOf(Date date) {
+    long localMillis = localEpochMilli(date);
+    return localMillis == UNSUPPORTED ? DateUtil.minuteOf(date) : fieldOf(localMillis, MILLIS_PER_MINUTE, 60);
+  }
+
+  static int secondOf(Date date) {
+    long localMillis = localEpochMilli(date);
+    return localMillis == UNSUPPORTED ? DateUtil.secondOf(date) : fieldOf(localMillis, MILLIS_PER_SECOND, 60);
+  }
+
+  static int millisecondOf(Date date) {
+    long localMillis = localEpochMilli(date);
+    return localMillis == UNSUPPORTED ? DateUtil.millisecondOf(date) : fieldOf(localMillis, 1, 1000);
+  }
+
+  /**
+   * Returns whether the given dates have the same {@link Calendar} fields in the default time zone, from the year down to
+   * the given field.
+   *
+   * @param lastField the last field to compare, one of {@link Calendar#YEAR}, {@link Calendar#MONTH},
+   *          {@link Calendar#DAY_OF_MONTH}, {@link Calendar#HOUR_OF_DAY}, {@link Calendar#MINUTE},
+   *          {@link Calendar#SECOND} or {@link Calendar#MILLISECOND}.
+   * @param date1 the first date.
+   * @param date2 the second date.
+   * @return whether the given dates have the same fields from the year down to the given field.
+   */
+  static boolean areInSame(int lastField, Date date1, Date date2) {
+    DefaultZone zone = defaultZone();
+    long localMillis1 = zone.localEpochMilli(date1.getTime());
+    long localMillis2 = zone.localEpochMilli(date2.getTime());
+    if (localMillis1 == UNSUPPORTED || localMillis2 == UNSUPPORTED) return calendarFieldsAreEqual(lastField, date1, date2);
+    switch (lastField) {
+    case Calendar.YEAR:
+      return year(epochDay(localMillis1)) == year(epochDay(localMillis2));
+    case Calendar.MONTH:
+      long epochDay1 = epochDay(localMillis1);
+      long epochDay2 = epochDay(localMillis2);
+      return year(epochDay1) == year(epochDay2) && month(epochDay1) == month(epochDay2);
+    case Calendar.DAY_OF_MONTH:
+      return epochDay(localMillis1) == epochDay(localMillis2);
+    case Calendar.HOUR_OF_DAY:
+      return floorDiv(localMillis1, MILLIS_PER_HOUR) == floorDiv(localMillis2, MILLIS_PER_HOUR);
+    case Calendar.MINUTE:
+      return floorDiv(localMillis1, MILLIS_PER_MINUTE) == floorDiv(localMillis2, MILLIS_PER_MINUTE);
+    case Calendar.SECOND:
+      return floorDiv(localMillis1, MILLIS_PER_SECOND) == floorDiv(localMillis2, MILLIS_PER_SECOND);
+    case Calendar.MILLISECOND:
+      return localMillis1 == localMillis2;
+    default:
+      throw new IllegalArgumentException("Unsupported Calendar field: " + lastField);
+    }
+  }
+
+  private static boolean calendarFieldsAreEqual(int lastField, Date date1, Date date2) {
+    Calendar calendar1 = toCalendar(date1);
+    Calendar calendar2 = toCalendar(date2);
+    for (int field : FIELDS) {
+      if (calendar1.get(field) != calendar2.get(field)) return false;
+      if (field == lastField) return true;
+    }
+    throw new IllegalArgumentException("Unsupported Calendar field: " + lastField);
+  }
+
+  private static long localEpochMilli(Date date) {
+    return defaultZone().localEpochMilli(date.getTime());
+  }
+
+  private static long epochDay(long localMillis) {
+    return floorDiv(localMillis, MILLIS_PER_DAY);
+  }
+
+  private static int fieldOf(long localMillis, long unitMillis, int unitsPerParent) {
+    return (int) floorMod(floorDiv(localMillis, unitMillis), unitsPerParent);
+  }
+
+  // the civil from days algorithms by Howard Hinnant: years start in March so that February 29th is the last day
+
+  private static long dayOfEra(long epochDay) {
+    return floorMod(epochDay + 719468, 146097);
+  }
+
+  private static long yearOfEra(long dayOfEra) {
+    return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+  }
+
+  private static long marchBasedMonth(long dayOfEra) {
+    long yearOfEra = yearOfEra(dayOfEra);
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    return (5 * dayOfYear + 2) / 153;
+  }
+
+  private static int year(long epochDay) {
+    long dayOfEra = dayOfEra(epochDay);
+    long year = yearOfEra(dayOfEra) + floorDiv(epochDay + 719468, 146097) * 400;
+    return (int) (marchBasedMonth(dayOfEra) >= 10 ? year + 1 : year);
+  }
+
+  private static int month(long epochDay) {
+    long marchBasedMonth = marchBasedMonth(dayOfEra(epochDay));
+    return (int) (marchBasedMonth < 10 ? marchBasedMonth + 3 : marchBasedMonth - 9);
+  }
+
+  private static int dayOfMonth(long epochDay) {
+    long dayOfEra = dayOfEra(epochDay);
+    long yearOfEra = yearOfEra(dayOfEra);
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long marchBasedMonth = (5 * dayOfYear + 2) / 153;
+    return (int) (dayOfYear - (153 * marchBasedMonth + 2) / 5 + 1);
+  }
+
+  private static DefaultZone defaultZone() {
+    // TimeZone.getDefault() returns a copy, Locale.getDefault does not
+    TimeZone timeZone = TimeZone.getDefault();
+    Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+    DefaultZone zone = defaultZone;
+    if (zone == null || !zone.isFor(timeZone, locale)) {
+      zone = new DefaultZone(timeZone, locale);
+      defaultZone = zone;
+    }
+    return zone;
+  }
+
+  /**
+   * The rules of the default time zone if {@code java.time} can be used to compute the default {@code Calendar} fields.
+   */
+  private static final class DefaultZone {
+
+    private final String timeZoneId;
+    private final Locale locale;
+    private final ZoneRules rules;
+    private volatile OffsetRange lastOffsetRange;
+
+    private DefaultZone(TimeZone timeZone, Locale locale) {
+      this.timeZoneId = timeZone.getID();
+      this.locale = locale;
+      this.rules = rulesOf(timeZone, locale);
+      this.lastOffsetRange = new OffsetRange(0, 0, 0);
+    }
+
+    private static ZoneRules rulesOf(TimeZone timeZone, Locale locale) {
+      // the buddhist calendar extends GregorianCalendar
+      if (Calendar.getInstance(timeZone, locale).getClass() != GregorianCalendar.class) return null;
+      try {
+        ZoneId zoneId = timeZone.toZoneId();
+        // toZoneId maps unknown ids to other zones
+        return TimeZone.getTimeZone(zoneId).hasSameRules(timeZone) ? zoneId.getRules() : null;
+      } catch (DateTimeException e) {
+        return null;
+      }
+    }
+
+    private boolean isFor(TimeZone timeZone, Locale locale) {
+      return timeZoneId.equals(timeZone.getID()) && this.locale.equals(locale);
+    }
+
+    private long localEpochMilli(long epochMilli) {
+      if (rules == null || epochMilli < FIRST_SUPPORTED_EPOCH_MILLI) return UNSUPPORTED;
+      OffsetRange offsetRange = lastOffsetRange;
+      if (!offsetRange.contains(epochMilli)) {
+        offsetRange = OffsetRange.of(rules, epochMilli);
+        lastOffsetRange = offsetRange;
+      }
+      return epochMilli + offsetRange.offsetMillis;
+    }
+  }
+
+  /**
+   * A time range during which the offset of a time zone does not change.
+   */
+  private static final class OffsetRange {
+
+    private final long start;
+    private final long end;
+    private final long offsetMillis;
+
+    private OffsetRange(long start, long end, long offsetMillis) {
+      this.start = start;
+      this.end = end;
+      this.offsetMillis = offsetMillis;
+    }
+
+    private static OffsetRange of(ZoneRules rules, long epochMilli) {
+      Instant instant = Instant.ofEpochMilli(epochMilli);
+      ZoneOffset offset = rules.getOffset(instant);
+      ZoneOffsetTransition previousTransition = rules.previousTransition(instant);
+      ZoneOffsetTransition nextTransition = rules.nextTransition(instant);
+      long start = previousTransition != null && previousTransition.getOffsetAfter().equals(offset)
+          ? previousTransition.toEpochSecond() * MILLIS_PER_SECOND
+          : epochMilli;
+      long end = nextTransition == null ? Long.MAX_VALUE : nextTransition.toEpochSecond() * MILLIS_PER_SECOND;
+      return new OffsetRange(start, end, offset.getTotalSeconds() * MILLIS_PER_SECOND);
+    }
+
+    private boolean contains(long epochMilli) {
+      return start <= epochMilli && epochMilli < end;
+    }
+  }
+
+  private DateFields() {}
+}
@@ -36,17 +36,18 @@ import static org.assertj.core.error.ShouldHaveDateField.shouldHaveDateField;
 import static org.assertj.core.error.ShouldHaveSameTime.shouldHaveSameTime;
 import static org.assertj.core.error.ShouldHaveTime.shouldHaveTime;
 import static org.assertj.core.error.ShouldNotBeBetween.shouldNotBeBetween;
-import static org.assertj.core.util.DateUtil.dayOfMonthOf;
-import static org.assertj.core.util.DateUtil.dayOfWeekOf;
-import static org.assertj.core.util.DateUtil.hourOfDayOf;
-import static org.assertj.core.util.DateUtil.millisecondOf;
-import static org.assertj.core.util.DateUtil.minuteOf;
-import static org.assertj.core.util.DateUtil.monthOf;
+import static org.assertj.core.internal.DateFields.areInSame;
+import static org.assertj.core.internal.DateFields.dayOfMonthOf;
+import static org.assertj.core.internal.DateFields.dayOfWeekOf;
+import static org.assertj.core.internal.DateFields.hourOfDayOf;
+import static org.assertj.core.internal.DateFields.millisecondOf;
+import static org.assertj.core.internal.DateFields.minuteOf;
+import static org.assertj.core.internal.DateFields.monthOf;
+import static org.assertj.core.internal.DateFields.secondOf;
+import static org.assertj.core.internal.DateFields.yearOf;
 import static org.assertj.core.util.DateUtil.now;
-import static org.assertj.core.util.DateUtil.secondOf;
 import static org.assertj.core.util.DateUtil.timeDifference;
 import static org.assertj.core.util.DateUtil.truncateTime;
-import static org.assertj.core.util.DateUtil.yearOf;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.util.Calendar;
@@ -175,6 +176,27 @@ public class Dates {
    */
   public void assertIsEqualWithPrecision(AssertionInfo info, Date actual, Date other, TimeUnit precision) {
     assertNotNull(info, actual);
+    if (!isEqualWithPrecision(actual, other, precision))
+      throw failures.failure(info, ShouldBeEqualWithTimePrecision.shouldBeEqual(actual, other, precision));
+  }
+
+  private static boolean isEqualWithPrecision(Date actual, Date other, TimeUnit precision) {
+    // comparing the fields above the precision gives the same result as the truncated Calendars below
+    switch (precision) {
+    case HOURS:
+      return areInSame(Calendar.DAY_OF_MONTH, actual, other);
+    case MINUTES:
+      return areInSame(Calendar.HOUR_OF_DAY, actual, other);
+    case SECONDS:
+      return areInSame(Calendar.MINUTE, actual, other);
+    case MILLISECONDS:
+      return areInSame(Calendar.SECOND, actual, other);
+    case MICROSECONDS:
+    case NANOSECONDS:
+      return actual.getTime() == other.getTime();
+    default:
+      break;
+    }
     Calendar calendarActual = Calendar.getInstance();
     calendarActual.setTime(actual);
     Calendar calendarOther = Calendar.getInstance();
@@ -200,8 +222,7 @@ public class Dates {
     default:
       break;
     }
-    if (calendarActual.compareTo(calendarOther) != 0)
-      throw failures.failure(info, ShouldBeEqualWithTimePrecision.shouldBeEqual(actual, other, precision));
+    return calendarActual.compareTo(calendarOther) == 0;
   }
 
   /**
@@ -279,9 +300,12 @@ public class Dates {
    */
   public void assertIsToday(AssertionInfo info, Date actual) {
     assertNotNull(info, actual);
-    Date todayWithoutTime = truncateTime(now());
-    Date actualWithoutTime = truncateTime(actual);
-    if (!areEqual(actualWithoutTime, todayWithoutTime)) throw failures.failure(info, shouldBeToday(actual, comparisonStrategy));
+    if (!isToday(actual)) throw failures.failure(info, shouldBeToday(actual, comparisonStrategy));
+  }
+
+  private boolean isToday(Date actual) {
+    if (comparisonStrategy instanceof StandardComparisonStrategy) return areInSame(Calendar.DAY_OF_MONTH, actual, now());
+    return areEqual(truncateTime(actual), truncateTime(now()));
   }
 
   /**
@@ -452,7 +476,7 @@ public class Dates {
    * @return true if both date are in the same year, false otherwise
    */
   private static boolean areInSameYear(Date actual, Date other) {
-    return yearOf(actual) == yearOf(other);
+    return areInSame(Calendar.YEAR, actual, other);
   }
 
   /**
@@ -477,7 +501,7 @@ public class Dates {
    * @return true if both date are in the same year and month, false otherwise
    */
   private static boolean areInSameMonth(Date actual, Date other) {
-    return areInSameYear(actual, other) && monthOf(actual) == monthOf(other);
+    return areInSame(Calendar.MONTH, actual, other);
   }
 
   /**
@@ -503,7 +527,7 @@ public class Dates {
    * @return true if both date are in the same year, month and day of month, false otherwise
    */
   private static boolean areInSameDayOfMonth(Date actual, Date other) {
-    return areInSameMonth(actual, other) && dayOfMonthOf(actual) == dayOfMonthOf(other);
+    return areInSame(Calendar.DAY_OF_MONTH, actual, other);
   }
 
   /**
@@ -555,7 +579,7 @@ public class Dates {
    * @return true if both date are in the same year, month, day of month and hour, false otherwise.
    */
   private static boolean areInSameHour(Date actual, Date other) {
-    return areInSameDayOfMonth(actual, other) && hourOfDayOf(actual) == hourOfDayOf(other);
+    return areInSame(Calendar.HOUR_OF_DAY, actual, other);
   }
 
   /**
@@ -595,7 +619,7 @@ public class Dates {
    * @return true if both date are in the same year, month, day of month, hour and minute, false otherwise.
    */
   private static boolean areInSameMinute(Date actual, Date other) {
-    return areInSameHour(actual, other) && minuteOf(actual) == minuteOf(other);
+    return areInSame(Calendar.MINUTE, actual, other);
   }
 
   private static boolean areInSameMinuteWindow(Date actual, Date other) {
@@ -649,7 +673,7 @@ public class Dates {
    * @return true if both date are in the same year, month and day of month, hour, minute and second, false otherwise.
    */
   private static boolean areInSameSecond(Date actual, Date other) {
-    return areInSameMinute(actual, other) && secondOf(actual) == secondOf(other);
+    return areInSame(Calendar.SECOND, actual, other);
   }
 
   /**
@@ -13,8 +13,10 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -24,12 +26,19 @@ import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.configuration.ConfigurationScope;
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
 
 
@@ -47,6 +56,56 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  private static volatile int maxDeltasForContentDiff = Configuration.MAX_DELTAS_FOR_CONTENT_DIFF;
+
+  // 0 means the global maxDeltasForContentDiff setting is used
+  private final int maxDeltas;
+
+  public Diff() {
+    this.maxDeltas = 0;
+  }
+
+  /**
+   * Creates a {@link Diff} keeping at most the given number of deltas (the first ones).
+   *
+   * @param maxDeltas the maximum number of deltas returned by the diff methods.
+   */
+  @VisibleForTesting
+  public Diff(int maxDeltas) {
+    checkMaxDeltas(maxDeltas);
+    this.maxDeltas = maxDeltas;
+  }
+
+  /**
+   * Sets the maximum number of deltas (the first ones) kept by the diff of {@link Diff} instances created with
+   * {@link #Diff()}.
+   * <p>
+   * This only limits the reported deltas, the contents following their common prefix are still read and diffed
+   * entirely.
+   *
+   * @param maxDeltas the maximum number of deltas returned by the diff methods.
+   * @throws IllegalArgumentException if maxDeltas is not strictly positive.
+   */
+  public static void setMaxDeltasForContentDiff(int maxDeltas) {
+    checkMaxDeltas(maxDeltas);
+    maxDeltasForContentDiff = maxDeltas;
+  }
+
+  /**
+   * Returns the maximum number of deltas kept by the diff of {@link Diff} instances created with {@link #Diff()}, the
+   * one of the {@link ConfigurationScope} applying to the current thread if any.
+   *
+   * @return the maximum number of deltas kept by the diff.
+   */
+  public static int getMaxDeltasForContentDiff() {
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? maxDeltasForContentDiff : scope.maxDeltasForContentDiff();
+  }
+
+  private static void checkMaxDeltas(int maxDeltas) {
+    checkArgument(maxDeltas > 0, "The maximum number of deltas must be strictly positive but was %s", maxDeltas);
+  }
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -85,24 +144,104 @@ public class Diff {
     return new BufferedReader(new StringReader(string));
   }
 
+  // Only the lines following the common prefix are kept in memory, the common suffix is then removed before diffing the
+  // remaining lines.
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
-      
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      int commonPrefixSize = 0;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        commonPrefixSize++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
+
+      List<String> actualLines = linesFromBufferedReader(actualLine, actual);
+      List<String> expectedLines = linesFromBufferedReader(expectedLine, expected);
+      int commonSuffixSize = commonSuffixSize(actualLines, expectedLines);
+
+      Patch<String> patch = DiffUtils.diff(expectedLines.subList(0, expectedLines.size() - commonSuffixSize),
+                                           actualLines.subList(0, actualLines.size() - commonSuffixSize));
+      int maxDeltas = this.maxDeltas > 0 ? this.maxDeltas : getMaxDeltasForContentDiff();
+      List<Delta<String>> allDeltas = patch.getDeltas();
+      List<Delta<String>> deltas = new ArrayList<>();
+      for (Delta<String> delta : allDeltas) {
+        if (deltas.size() == maxDeltas) return new TruncatedDeltas(deltas, allDeltas.size() - maxDeltas);
+        deltas.add(shift(delta, commonPrefixSize));
+      }
+      return unmodifiableList(deltas);
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
+  private List<String> linesFromBufferedReader(String firstLine, BufferedReader reader) throws IOException {
     List<String> lines = new ArrayList<>();
-    while ((line = reader.readLine()) != null) {
+    String line = firstLine;
+    while (line != null) {
       lines.add(line);
+      line = reader.readLine();
     }
     return lines;
   }
+
+  private static int commonSuffixSize(List<String> actualLines, List<String> expectedLines) {
+    int actualSize = actualLines.size();
+    int expectedSize = expectedLines.size();
+    int maxSuffixSize = Math.min(actualSize, expectedSize);
+    int suffixSize = 0;
+    while (suffixSize < maxSuffixSize
+           && actualLines.get(actualSize - 1 - suffixSize).equals(expectedLines.get(expectedSize - 1 - suffixSize))) {
+      suffixSize++;
+    }
+    return suffixSize;
+  }
+
+  private static Delta<String> shift(Delta<String> delta, int offset) {
+    if (offset == 0) return delta;
+    Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + offset, delta.getOriginal().getLines());
+    Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + offset, delta.getRevised().getLines());
+    switch (delta.getType()) {
+    case CHANGE:
+      return new ChangeDelta<>(original, revised);
+    case DELETE:
+      return new DeleteDelta<>(original, revised);
+    default:
+      return new InsertDelta<>(original, revised);
+    }
+  }
+
+  /**
+   * The first deltas of a diff having more than the maximum number of deltas kept.
+   */
+  public static final class TruncatedDeltas extends AbstractList<Delta<String>> {
+    private final List<Delta<String>> deltas;
+    private final int omittedDeltasCount;
+
+    private TruncatedDeltas(List<Delta<String>> deltas, int omittedDeltasCount) {
+      this.deltas = deltas;
+      this.omittedDeltasCount = omittedDeltasCount;
+    }
+
+    @Override
+    public Delta<String> get(int index) {
+      return deltas.get(index);
+    }
+
+    @Override
+    public int size() {
+      return deltas.size();
+    }
+
+    /**
+     * Returns the number of deltas following the kept ones.
+     *
+     * @return the number of omitted deltas.
+     */
+    public int getOmittedDeltasCount() {
+      return omittedDeltasCount;
+    }
+  }
 }
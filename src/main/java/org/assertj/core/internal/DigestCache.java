@@ -0,0 +1,167 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Least recently used cache of file digests, a digest is cached by the file real path, file key, size, last modified
+ * time, change time (when the file system provides it) and digest algorithm so that a modified or replaced file is
+ * digested again. Only the requested digest is computed when it is not cached.
+ * <p>
+ * On file systems without change time, a file rewritten with the same size within the last modified time granularity
+ * is not detected as modified and its previous digest is returned.
+ * <p>
+ * Files whose attributes can't be read are not cached.
+ */
+final class DigestCache {
+
+  @VisibleForTesting
+  static final int DEFAULT_MAX_SIZE = 1024;
+
+  private static final DigestCache INSTANCE = new DigestCache(DEFAULT_MAX_SIZE);
+
+  private final Map<Key, byte[]> digests;
+
+  static DigestCache instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting
+  DigestCache(int maxSize) {
+    checkArgument(maxSize > 0, "The maximum size of the digest cache must be strictly positive but was %s", maxSize);
+    digests = new LinkedHashMap<Key, byte[]>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, byte[]> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the digest of the given file content computed with the given {@link MessageDigest}.
+   *
+   * @param path the file to compute the digest of
+   * @param messageDigest the digest to compute
+   * @param nioFilesWrapper used to access the file
+   * @return the file digest
+   * @throws IOException if the file can't be read
+   */
+  byte[] digest(Path path, MessageDigest messageDigest, NioFilesWrapper nioFilesWrapper) throws IOException {
+    Key key = key(path, messageDigest.getAlgorithm(), nioFilesWrapper);
+    if (key == null) return digest(path, nioFilesWrapper, messageDigest);
+    byte[] cachedDigest = get(key);
+    if (cachedDigest != null) return cachedDigest;
+    byte[] computedDigest = digest(path, nioFilesWrapper, messageDigest);
+    synchronized (this) {
+      digests.put(key, computedDigest);
+    }
+    return computedDigest.clone();
+  }
+
+  private static byte[] digest(Path path, NioFilesWrapper nioFilesWrapper, MessageDigest messageDigest) throws IOException {
+    try (InputStream stream = nioFilesWrapper.newInputStream(path)) {
+      return Digests.digests(stream, messageDigest)[0];
+    }
+  }
+
+  private synchronized byte[] get(Key key) {
+    byte[] digest = digests.get(key);
+    return digest == null ? null : digest.clone();
+  }
+
+  private static Key key(Path path, String algorithm, NioFilesWrapper nioFilesWrapper) {
+    if (path == null || algorithm == null) return null;
+    try {
+      Path realPath = nioFilesWrapper.toRealPath(path);
+      if (realPath == null) return null;
+      BasicFileAttributes attributes = nioFilesWrapper.readAttributes(realPath);
+      if (attributes == null) return null;
+      return new Key(realPath, attributes.fileKey(), attributes.size(), attributes.lastModifiedTime(),
+                     changeTime(realPath, nioFilesWrapper), algorithm);
+    } catch (IOException | SecurityException e) {
+      // not cacheable, reading the file will report the problem if any
+      return null;
+    }
+  }
+
+  private static Object changeTime(Path realPath, NioFilesWrapper nioFilesWrapper) throws IOException {
+    try {
+      return nioFilesWrapper.getAttribute(realPath, "unix:ctime");
+    } catch (UnsupportedOperationException | IllegalArgumentException e) {
+      // the file system does not provide the change time
+      return null;
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void clear() {
+    digests.clear();
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return digests.size();
+  }
+
+  private static final class Key {
+    private final Path realPath;
+    private final Object fileKey;
+    private final long size;
+    private final FileTime lastModifiedTime;
+    private final Object changeTime;
+    private final String algorithm;
+
+    private Key(Path realPath, Object fileKey, long size, FileTime lastModifiedTime, Object changeTime,
+                String algorithm) {
+      this.realPath = realPath;
+      this.fileKey = fileKey;
+      this.size = size;
+      this.lastModifiedTime = lastModifiedTime;
+      this.changeTime = changeTime;
+      this.algorithm = algorithm;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Key)) return false;
+      Key other = (Key) obj;
+      return size == other.size
+             && realPath.equals(other.realPath)
+             && Objects.equals(fileKey, other.fileKey)
+             && Objects.equals(lastModifiedTime, other.lastModifiedTime)
+             && Objects.equals(changeTime, other.changeTime)
+             && algorithm.equals(other.algorithm);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(realPath, fileKey, size, lastModifiedTime, changeTime, algorithm);
+    }
+  }
+}
@@ -53,15 +53,38 @@ public final class Digests {
     checkNotNull(stream, "The stream should not be null");
     checkNotNull(messageDigest, "The digest should not be null");
     checkNotNull(expected, "The expected should not be null");
-    messageDigest.reset();
+    byte[] actualDigest = digests(stream, messageDigest)[0];
+    String expectedHex = toHex(expected);
+    String actualHex = toHex(actualDigest);
+    return new DigestDiff(actualHex, expectedHex, messageDigest);
+  }
+
+  /**
+   * Computes the digests of the given stream content with each of the given {@link MessageDigest}s, the stream is read
+   * only once.
+   *
+   * @param stream the stream to compute the digests of
+   * @param messageDigests the digests to compute
+   * @return the computed digests in the order of the given {@link MessageDigest}s
+   * @throws IOException if the stream can't be read
+   */
+  public static byte[][] digests(InputStream stream, MessageDigest... messageDigests) throws IOException {
+    checkNotNull(stream, "The stream should not be null");
+    for (MessageDigest messageDigest : messageDigests) {
+      checkNotNull(messageDigest, "The digest should not be null");
+      messageDigest.reset();
+    }
     byte[] buffer = new byte[BUFFER_SIZE];
     int len;
     while ((len = stream.read(buffer)) > 0) {
-      messageDigest.update(buffer, 0, len);
+      for (MessageDigest messageDigest : messageDigests) {
+        messageDigest.update(buffer, 0, len);
+      }
     }
-    byte[] actualDigest = messageDigest.digest();
-    String expectedHex = toHex(expected);
-    String actualHex = toHex(actualDigest);
-    return new DigestDiff(actualHex, expectedHex, messageDigest);
+    byte[][] digests = new byte[messageDigests.length][];
+    for (int i = 0; i < messageDigests.length; i++) {
+      digests[i] = messageDigests[i].digest();
+    }
+    return digests;
   }
 }
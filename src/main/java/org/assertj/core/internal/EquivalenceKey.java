@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Wraps an element to give it the {@code equals}/{@code hashCode} of a comparator, this lets a {@link HashMultiset}
+ * count elements compared with a {@link FieldByFieldComparator} in linear time: the comparator is only called on the
+ * elements having the same equivalence hash.
+ */
+final class EquivalenceKey {
+
+  private final Object element;
+  private final int hash;
+  private final Comparator<Object> comparator;
+
+  private EquivalenceKey(Object element, int hash, Comparator<Object> comparator) {
+    this.element = element;
+    this.hash = hash;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Returns the function wrapping the given elements in {@link EquivalenceKey}s for the given comparator or null if
+   * the comparator has no equivalence hash for these elements.
+   *
+   * @param comparator the comparator the elements are compared with
+   * @param elements the elements to wrap
+   * @return the function wrapping the elements or null.
+   */
+  static Function<Object, Object> keyFunction(Comparator<?> comparator, Iterable<?>... elements) {
+    ToIntFunction<Object> equivalenceHash = equivalenceHash(comparator, elements);
+    if (equivalenceHash == null) return null;
+    @SuppressWarnings("unchecked")
+    Comparator<Object> objectComparator = (Comparator<Object>) comparator;
+    return element -> new EquivalenceKey(element, equivalenceHash.applyAsInt(element), objectComparator);
+  }
+
+  /**
+   * Returns a hash function consistent with the given comparator on the given elements or null if there is none.
+   * <p>
+   * Only the AssertJ field by field comparators (possibly extended by types) are supported, subclasses may compare
+   * elements differently and are not.
+   *
+   * @param comparator the comparator the elements are compared with
+   * @param elements the elements to hash
+   * @return a hash function consistent with the comparator on the given elements or null.
+   */
+  static ToIntFunction<Object> equivalenceHash(Comparator<?> comparator, Iterable<?>... elements) {
+    if (comparator == null) return null;
+    Class<?> comparatorClass = comparator.getClass();
+    if (comparatorClass == ExtendedByTypesComparator.class) {
+      return ((ExtendedByTypesComparator) comparator).equivalenceHash(elements);
+    }
+    if (comparatorClass == FieldByFieldComparator.class || comparatorClass == IgnoringFieldsComparator.class
+        || comparatorClass == OnFieldsComparator.class || comparatorClass == RecursiveFieldByFieldComparator.class) {
+      return ((FieldByFieldComparator) comparator).equivalenceHash(elements);
+    }
+    return null;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof EquivalenceKey)) return false;
+    EquivalenceKey other = (EquivalenceKey) obj;
+    return hash == other.hash && comparator.compare(element, other.element) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(element);
+  }
+}
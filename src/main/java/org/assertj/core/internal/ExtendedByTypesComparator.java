@@ -17,6 +17,7 @@ import static org.assertj.core.internal.ComparatorBasedComparisonStrategy.NOT_EQ
 import static org.assertj.core.util.Objects.areEqual;
 
 import java.util.Comparator;
+import java.util.function.ToIntFunction;
 
 /**
  * Compares objects using passed or standard default comparator extended with comparators by type.
@@ -67,6 +68,25 @@ public class ExtendedByTypesComparator implements Comparator<Object> {
     return comparator;
   }
 
+  /**
+   * Returns the equivalence hash of the given elements compared with the wrapped comparator, provided no comparator
+   * by type applies to them.
+   *
+   * @param elements the elements to hash
+   * @return a hash function consistent with this comparator on the given elements or null.
+   * @see EquivalenceKey#equivalenceHash(Comparator, Iterable...)
+   */
+  ToIntFunction<Object> equivalenceHash(Iterable<?>... elements) {
+    if (comparatorsByType != null) {
+      for (Iterable<?> iterable : elements) {
+        for (Object element : iterable) {
+          if (element != null && comparatorsByType.get(element.getClass()) != null) return null;
+        }
+      }
+    }
+    return EquivalenceKey.equivalenceHash(comparator, elements);
+  }
+
   @Override
   public String toString() {
     // only used in element comparator
@@ -21,6 +21,7 @@ import java.lang.management.ThreadMXBean;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.configuration.Configuration;
+import org.assertj.core.configuration.ConfigurationScope;
 import org.assertj.core.description.Description;
 import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.error.AssertionErrorFactory;
@@ -61,7 +62,7 @@ public class Failures {
   /**
    * flag indicating whether or not we remove elements related to AssertJ from assertion error stack trace.
    */
-  private boolean removeAssertJRelatedElementsFromStackTrace = Configuration.REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE;
+  private volatile boolean removeAssertJRelatedElementsFromStackTrace = Configuration.REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE;
 
   /**
    * Sets whether we remove elements related to AssertJ from assertion error stack trace.
@@ -73,11 +74,15 @@ public class Failures {
   }
 
   /**
-   * Returns whether or not we remove elements related to AssertJ from assertion error stack trace.
+   * Returns whether or not we remove elements related to AssertJ from assertion error stack trace, the setting of the
+   * {@link ConfigurationScope} applying to the current thread takes precedence.
    * @return whether or not we remove elements related to AssertJ from assertion error stack trace.
    */
   public boolean isRemoveAssertJRelatedElementsFromStackTrace() {
-    return removeAssertJRelatedElementsFromStackTrace;
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null
+        ? removeAssertJRelatedElementsFromStackTrace
+        : scope.removeAssertJRelatedElementsFromStackTraceEnabled();
   }
 
   @VisibleForTesting
@@ -211,7 +216,7 @@ public class Failures {
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
-    if (removeAssertJRelatedElementsFromStackTrace) {
+    if (isRemoveAssertJRelatedElementsFromStackTrace()) {
       Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
     }
   }
@@ -17,12 +17,15 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.internal.ComparatorBasedComparisonStrategy.NOT_EQUAL;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Strings.join;
+import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.function.ToIntFunction;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -65,6 +68,88 @@ public class FieldByFieldComparator implements Comparator<Object> {
     }
   }
 
+  /**
+   * Returns a hash function consistent with this comparator on the given elements, i.e. elements compared as equal get
+   * the same hash, or null if there is no cheap one.
+   * <p>
+   * All the non null elements must be of the same class, only the compared fields without comparator by name whose non
+   * null values are all of the same {@code String}, enum or non floating point wrapper class without comparator by type
+   * are hashed, the other ones are left to {@link #compare(Object, Object)}.
+   *
+   * @param elements the elements to hash
+   * @return a hash function consistent with this comparator on the given elements or null.
+   */
+  ToIntFunction<Object> equivalenceHash(Iterable<?>... elements) {
+    Object sample = null;
+    for (Iterable<?> iterable : elements) {
+      for (Object element : iterable) {
+        if (element == null) continue;
+        if (sample == null) sample = element;
+        else if (element.getClass() != sample.getClass()) return null;
+      }
+    }
+    if (sample == null) return null;
+    try {
+      List<String> fieldsNames = comparedFieldsNames(sample);
+      if (fieldsNames == null) return null;
+      List<String> hashedFieldsNames = new ArrayList<>();
+      for (String fieldName : fieldsNames) {
+        if (!comparatorsByPropertyOrField.containsKey(fieldName) && haveHashableValues(fieldName, elements)) {
+          hashedFieldsNames.add(fieldName);
+        }
+      }
+      if (hashedFieldsNames.isEmpty()) return null;
+      return element -> hash(element, hashedFieldsNames);
+    } catch (IntrospectionError e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the names of the fields compared by {@link #areEqual(Object, Object)} when the given element is actual.
+   *
+   * @param element the actual element
+   * @return the compared fields names or null if fields values are not compared one by one.
+   */
+  List<String> comparedFieldsNames(Object element) {
+    return Objects.instance().fieldsNamesComparedIgnoringGivenFields(element);
+  }
+
+  Object comparedValue(String fieldName, Object element) {
+    return COMPARISON.getValueOf(fieldName, element);
+  }
+
+  private boolean haveHashableValues(String fieldName, Iterable<?>... elements) {
+    Class<?> valuesClass = null;
+    for (Iterable<?> iterable : elements) {
+      for (Object element : iterable) {
+        Object value = element == null ? null : comparedValue(fieldName, element);
+        if (value == null) continue;
+        if (valuesClass == null) valuesClass = value.getClass();
+        else if (value.getClass() != valuesClass) return false;
+      }
+    }
+    return valuesClass == null || isComparedWithEquals(valuesClass);
+  }
+
+  private boolean isComparedWithEquals(Class<?> valuesClass) {
+    boolean hasConsistentHashCode = valuesClass == String.class || Enum.class.isAssignableFrom(valuesClass)
+                                    || valuesClass == Integer.class || valuesClass == Long.class
+                                    || valuesClass == Short.class || valuesClass == Byte.class
+                                    || valuesClass == Character.class || valuesClass == Boolean.class;
+    return hasConsistentHashCode && comparatorsByType.get(valuesClass) == null;
+  }
+
+  private int hash(Object element, List<String> fieldsNames) {
+    if (element == null) return 0;
+    int hash = 1;
+    for (String fieldName : fieldsNames) {
+      Object value = comparedValue(fieldName, element);
+      hash = 31 * hash + (value == null ? 0 : value.hashCode());
+    }
+    return hash;
+  }
+
   @Override
   public String toString() {
     return description() + describeUsedComparators();
@@ -35,7 +35,7 @@ import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContain.directoryShouldNotContain;
 import static org.assertj.core.error.ShouldNotExist.shouldNotExist;
-import static org.assertj.core.internal.Digests.digestDiff;
+import static org.assertj.core.internal.Digests.toHex;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Objects.areEqual;
 import static org.assertj.core.util.Preconditions.checkArgument;
@@ -43,7 +43,6 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
@@ -88,6 +87,8 @@ public class Files {
   Failures failures = Failures.instance();
   @VisibleForTesting
   NioFilesWrapper nioFilesWrapper = NioFilesWrapper.instance();
+  @VisibleForTesting
+  DigestCache digestCache = DigestCache.instance();
 
   @VisibleForTesting
   Files() {}
@@ -366,8 +367,9 @@ public class Files {
     assertExists(info, actual);
     assertIsFile(info, actual);
     assertCanRead(info, actual);
-    try (InputStream actualStream = nioFilesWrapper.newInputStream(actual.toPath())) {
-      DigestDiff digestDiff = digestDiff(actualStream, digest, expected);
+    try {
+      byte[] actualDigest = digestCache.digest(actual.toPath(), digest, nioFilesWrapper);
+      DigestDiff digestDiff = new DigestDiff(toHex(actualDigest), toHex(expected), digest);
       if (digestDiff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, digestDiff));
     } catch (IOException e) {
       throw new UncheckedIOException(format("Unable to calculate digest of path:<%s>", actual), e);
@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.function.Function.identity;
+import static org.assertj.core.util.Arrays.isArray;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Counts elements occurrences based on their {@code equals}/{@code hashCode}, this gives the same results as
+ * {@link StandardComparisonStrategy} in linear time as long as no element is an array (arrays are compared
+ * element by element by {@link org.assertj.core.util.Objects#areEqual(Object, Object)} which hashing can't honor).
+ * <p>
+ * Elements compared with a field by field comparator are counted through their {@link EquivalenceKey}.
+ */
+final class HashMultiset {
+
+  private final Map<Object, Integer> counts;
+
+  private HashMultiset(int expectedSize) {
+    counts = new HashMap<>(Math.max(16, (int) (expectedSize / .75f) + 1));
+  }
+
+  /**
+   * Returns whether the given comparison strategy and elements can be indexed by a {@link HashMultiset}, that is the
+   * comparison strategy is the standard one and none of the elements is an array.
+   *
+   * @param comparisonStrategy the comparison strategy the elements are compared with
+   * @param elements the elements to check
+   * @return true if the elements can be indexed by a {@link HashMultiset}, false otherwise.
+   */
+  static boolean canIndex(ComparisonStrategy comparisonStrategy, Iterable<?>... elements) {
+    if (!comparisonStrategy.isStandard()) return false;
+    for (Iterable<?> iterable : elements) {
+      for (Object element : iterable) {
+        if (isArray(element)) return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the function giving the {@link HashMultiset} key of the given elements compared with the given comparison
+   * strategy: the element itself if {@link #canIndex(ComparisonStrategy, Iterable...)}, its {@link EquivalenceKey} if
+   * the elements are compared with a field by field comparator having an equivalence hash for them, null otherwise.
+   *
+   * @param comparisonStrategy the comparison strategy the elements are compared with
+   * @param elements the elements to index
+   * @return the function giving the key of the elements or null if they can't be indexed.
+   */
+  static Function<Object, Object> keyFunction(ComparisonStrategy comparisonStrategy, Iterable<?>... elements) {
+    if (canIndex(comparisonStrategy, elements)) return identity();
+    if (!(comparisonStrategy instanceof ComparatorBasedComparisonStrategy)) return null;
+    return EquivalenceKey.keyFunction(((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator(), elements);
+  }
+
+  static HashMultiset of(List<?> elements) {
+    return of(elements, identity());
+  }
+
+  private static HashMultiset of(List<?> elements, Function<Object, Object> keyFunction) {
+    HashMultiset multiset = new HashMultiset(elements.size());
+    for (Object element : elements) {
+      multiset.add(keyFunction.apply(element));
+    }
+    return multiset;
+  }
+
+  void add(Object element) {
+    counts.merge(element, 1, Integer::sum);
+  }
+
+  boolean contains(Object element) {
+    return counts.containsKey(element);
+  }
+
+  /**
+   * Removes one occurrence of the given element.
+   *
+   * @param element the element to remove
+   * @return true if an occurrence was found and removed, false otherwise.
+   */
+  boolean removeOne(Object element) {
+    Integer count = counts.get(element);
+    if (count == null) return false;
+    if (count == 1) counts.remove(element);
+    else counts.put(element, count - 1);
+    return true;
+  }
+
+  /**
+   * Returns the elements of first that are not in second in first order, duplicates are taken into account: if an
+   * element is twice in first and once in second, its second occurrence in first is returned.
+   * <p>
+   * This gives the same result as removing from first, for each element of second, the first element equal to it.
+   *
+   * @param first the elements we want to subtract from
+   * @param second the elements to subtract
+   * @return first - second
+   */
+  static List<Object> subtract(List<?> first, List<?> second) {
+    return subtract(first, second, identity());
+  }
+
+  /**
+   * Same as {@link #subtract(List, List)} with elements counted by their key.
+   *
+   * @param first the elements we want to subtract from
+   * @param second the elements to subtract
+   * @param keyFunction the function giving the key of the elements
+   * @return first - second
+   */
+  static List<Object> subtract(List<?> first, List<?> second, Function<Object, Object> keyFunction) {
+    HashMultiset secondElements = of(second, keyFunction);
+    List<Object> result = new ArrayList<>();
+    for (Object element : first) {
+      if (!secondElements.removeOne(keyFunction.apply(element))) result.add(element);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the elements of first that are not equal to any element of second in first order, duplicates in first are
+   * all kept.
+   *
+   * @param first the elements to filter
+   * @param second the elements to exclude
+   * @return the elements of first not in second.
+   */
+  static List<Object> notIn(List<?> first, List<?> second) {
+    return notIn(first, second, identity());
+  }
+
+  /**
+   * Same as {@link #notIn(List, List)} with elements compared by their key.
+   *
+   * @param first the elements to filter
+   * @param second the elements to exclude
+   * @param keyFunction the function giving the key of the elements
+   * @return the elements of first not in second.
+   */
+  static List<Object> notIn(List<?> first, List<?> second, Function<Object, Object> keyFunction) {
+    HashMultiset secondElements = of(second, keyFunction);
+    List<Object> result = new ArrayList<>();
+    for (Object element : first) {
+      if (!secondElements.contains(keyFunction.apply(element))) result.add(element);
+    }
+    return result;
+  }
+
+}
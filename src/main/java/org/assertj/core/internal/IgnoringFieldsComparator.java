@@ -17,6 +17,7 @@ import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.assertj.core.util.VisibleForTesting;
@@ -51,6 +52,11 @@ public class IgnoringFieldsComparator extends FieldByFieldComparator {
     }
   }
 
+  @Override
+  List<String> comparedFieldsNames(Object element) {
+    return Objects.instance().fieldsNamesComparedIgnoringGivenFields(element, fields);
+  }
+
   @Override
   protected String description() {
     return "field/property by field/property comparator on all fields/properties except "
@@ -16,7 +16,9 @@ import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 
 // immutable
 class IterableDiff {
@@ -28,10 +30,22 @@ class IterableDiff {
 
   <T> IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
-    // return the elements in actual that are not in expected: actual - expected
-    this.unexpected = subtract(actual, expected);
-    // return the elements in expected that are not in actual: expected - actual
-    this.missing = subtract(expected, actual);
+    List<T> actualElements = newArrayList(actual);
+    List<T> expectedElements = newArrayList(expected);
+    Function<Object, Object> keyFunction = HashMultiset.keyFunction(comparisonStrategy, actualElements, expectedElements);
+    Comparator<?> totalOrderComparator = SortedMultiset.totalOrderComparatorOf(comparisonStrategy);
+    if (keyFunction != null) {
+      this.unexpected = unmodifiableList(HashMultiset.subtract(actualElements, expectedElements, keyFunction));
+      this.missing = unmodifiableList(HashMultiset.subtract(expectedElements, actualElements, keyFunction));
+    } else if (totalOrderComparator != null) {
+      this.unexpected = unmodifiableList(SortedMultiset.subtract(actualElements, expectedElements, totalOrderComparator));
+      this.missing = unmodifiableList(SortedMultiset.subtract(expectedElements, actualElements, totalOrderComparator));
+    } else {
+      // return the elements in actual that are not in expected: actual - expected
+      this.unexpected = subtract(actualElements, expectedElements);
+      // return the elements in expected that are not in actual: expected - actual
+      this.missing = subtract(expectedElements, actualElements);
+    }
   }
 
   static <T> IterableDiff diff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
@@ -90,6 +90,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.assertj.core.api.AssertionInfo;
@@ -376,13 +377,26 @@ public class Iterables {
     List<Object> unexpectedValues = newArrayList(actual);
     // after the for loop, missing = actual - expectedValues
     List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actual, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
+    Function<Object, Object> keyFunction = HashMultiset.keyFunction(comparisonStrategy, unexpectedValues, missingValues);
+    if (keyFunction != null) {
+      // same result as the for loop below but in linear time
+      List<Object> actualValues = unexpectedValues;
+      unexpectedValues = HashMultiset.notIn(actualValues, missingValues, keyFunction);
+      missingValues = HashMultiset.notIn(missingValues, actualValues, keyFunction);
+    } else if (totalOrderComparator() != null) {
+      // same result as the for loop below but in O(n log n) time
+      List<Object> actualValues = unexpectedValues;
+      unexpectedValues = SortedMultiset.notIn(actualValues, missingValues, totalOrderComparator());
+      missingValues = SortedMultiset.notIn(missingValues, actualValues, totalOrderComparator());
+    } else {
+      for (Object expected : expectedValues) {
+        if (iterableContains(actual, expected)) {
+          // since expected was found in actual:
+          // -- it does not belong to the missing elements
+          iterablesRemove(missingValues, expected);
+          // -- it does not belong to the unexpected elements
+          iterablesRemove(unexpectedValues, expected);
+        }
       }
     }
 
@@ -568,8 +582,14 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
-                                       .collect(toList());
+    List<Object> extra;
+    if (totalOrderComparator() != null) {
+      // same result as the filter below but in O(n log n) time
+      extra = SortedMultiset.notIn(newArrayList(actual), newArrayList(values), totalOrderComparator());
+    } else {
+      extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
+                            .collect(toList());
+    }
     if (extra.size() > 0) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
@@ -590,6 +610,10 @@ public class Iterables {
     return true;
   }
 
+  private Comparator<?> totalOrderComparator() {
+    return SortedMultiset.totalOrderComparatorOf(comparisonStrategy);
+  }
+
   private boolean areEqual(Object actual, Object other) {
     return comparisonStrategy.areEqual(actual, other);
   }
@@ -1246,10 +1270,23 @@ public class Iterables {
     List<Object> notExpected = newArrayList(actual);
     List<Object> notFound = newArrayList(values);
 
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
+    Function<Object, Object> keyFunction = HashMultiset.keyFunction(comparisonStrategy, notExpected, notFound);
+    if (keyFunction != null) {
+      // same result as the for loop below but in linear time
+      List<Object> actualValues = notExpected;
+      notExpected = HashMultiset.subtract(actualValues, notFound, keyFunction);
+      notFound = HashMultiset.subtract(notFound, actualValues, keyFunction);
+    } else if (totalOrderComparator() != null) {
+      // same result as the for loop below but in O(n log n) time
+      List<Object> actualValues = notExpected;
+      notExpected = SortedMultiset.subtract(actualValues, notFound, totalOrderComparator());
+      notFound = SortedMultiset.subtract(notFound, actualValues, totalOrderComparator());
+    } else {
+      for (Object value : values) {
+        if (iterableContains(notExpected, value)) {
+          iterablesRemoveFirst(notExpected, value);
+          iterablesRemoveFirst(notFound, value);
+        }
       }
     }
 
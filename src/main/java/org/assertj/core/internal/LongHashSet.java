@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Fixed capacity open addressing (linear probing) set of {@code long}s, it does not box its elements.
+ * <p>
+ * Each element is stored in a slot, {@link #slotOf(long)} allows to associate data to the set elements in arrays of
+ * {@link #capacity()} length.
+ */
+final class LongHashSet {
+
+  private final long[] elements;
+  private final boolean[] usedSlots;
+  private final int mask;
+  private final int shift;
+  private int size;
+
+  /**
+   * Creates a set able to hold the given number of elements.
+   *
+   * @param maxSize the maximum number of elements the set will hold.
+   */
+  LongHashSet(int maxSize) {
+    // keep the load factor at most 1/2
+    int capacity = Integer.highestOneBit(Math.max(maxSize, 1) * 2 - 1) << 1;
+    elements = new long[capacity];
+    usedSlots = new boolean[capacity];
+    mask = capacity - 1;
+    shift = 64 - Integer.numberOfTrailingZeros(capacity);
+  }
+
+  /**
+   * Adds the given element to this set.
+   *
+   * @param element the element to add.
+   * @return {@code true} if the element was not already in this set.
+   */
+  boolean add(long element) {
+    int slot = firstSlot(element);
+    while (usedSlots[slot]) {
+      if (elements[slot] == element) return false;
+      slot = (slot + 1) & mask;
+    }
+    usedSlots[slot] = true;
+    elements[slot] = element;
+    size++;
+    return true;
+  }
+
+  /**
+   * Returns the slot of the given element, -1 if it is not in this set.
+   *
+   * @param element the element to look for.
+   * @return the slot of the given element in [0, {@link #capacity()}[, -1 if it is not in this set.
+   */
+  int slotOf(long element) {
+    int slot = firstSlot(element);
+    while (usedSlots[slot]) {
+      if (elements[slot] == element) return slot;
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  boolean contains(long element) {
+    return slotOf(element) != -1;
+  }
+
+  int size() {
+    return size;
+  }
+
+  int capacity() {
+    return elements.length;
+  }
+
+  private int firstSlot(long element) {
+    // Fibonacci hashing spreads consecutive values over the table
+    return (int) ((element * 0x9E3779B97F4A7C15L) >>> shift) & mask;
+  }
+}
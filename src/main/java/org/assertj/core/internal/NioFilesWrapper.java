@@ -19,6 +19,7 @@ import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.function.Predicate;
 
 import org.assertj.core.util.VisibleForTesting;
@@ -77,6 +78,18 @@ public class NioFilesWrapper {
     return Files.newInputStream(path, options);
   }
 
+  public Path toRealPath(Path path) throws IOException {
+    return path.toRealPath();
+  }
+
+  public BasicFileAttributes readAttributes(Path path) throws IOException {
+    return Files.readAttributes(path, BasicFileAttributes.class);
+  }
+
+  public Object getAttribute(Path path, String attribute) throws IOException {
+    return Files.getAttribute(path, attribute);
+  }
+
   public DirectoryStream<Path> newDirectoryStream(Path path, Predicate<Path> matcher) throws IOException {
     return Files.newDirectoryStream(path, matcher::test);
   }
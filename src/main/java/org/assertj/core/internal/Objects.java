@@ -640,17 +640,10 @@ public class Objects {
                                                               Map<String, Comparator<?>> comparatorByPropertyOrField,
                                                               TypeComparators comparatorByType,
                                                               String[] givenIgnoredFields) {
-    Set<Field> declaredFieldsIncludingInherited = getDeclaredFieldsIncludingInherited(actual.getClass());
     List<String> fieldsNames = new LinkedList<>();
     List<Object> expectedValues = new LinkedList<>();
     List<Object> rejectedValues = new LinkedList<>();
-    Set<String> ignoredFields = newLinkedHashSet(givenIgnoredFields);
-    for (Field field : declaredFieldsIncludingInherited) {
-      // ignore private field if user has decided not to use them in comparison
-      String fieldName = field.getName();
-      if (ignoredFields.contains(fieldName) || !canReadFieldValue(field, actual)) {
-        continue;
-      }
+    for (String fieldName : fieldsNamesComparedIgnoringGivenFields(actual, givenIgnoredFields)) {
       Object actualFieldValue = getPropertyOrFieldValue(actual, fieldName);
       Object otherFieldValue = getPropertyOrFieldValue(other, fieldName);
 
@@ -664,6 +657,25 @@ public class Objects {
     return new ByFieldsComparison(fieldsNames, expectedValues, rejectedValues);
   }
 
+  /**
+   * Returns the names of the fields compared by {@link #areEqualToIgnoringGivenFields(Object, Object, Map, TypeComparators, String...)}
+   * when actual is the given object.
+   *
+   * @param actual the object compared to another one.
+   * @param givenIgnoredFields the fields to ignore in comparison.
+   * @return the names of the compared fields in comparison order.
+   */
+  List<String> fieldsNamesComparedIgnoringGivenFields(Object actual, String... givenIgnoredFields) {
+    Set<String> ignoredFields = newLinkedHashSet(givenIgnoredFields);
+    List<String> fieldsNames = new ArrayList<>();
+    for (Field field : getDeclaredFieldsIncludingInherited(actual.getClass())) {
+      // ignore private field if user has decided not to use them in comparison
+      String fieldName = field.getName();
+      if (!ignoredFields.contains(fieldName) && canReadFieldValue(field, actual)) fieldsNames.add(fieldName);
+    }
+    return fieldsNames;
+  }
+
   @SuppressWarnings({ "unchecked", "rawtypes" })
   static boolean propertyOrFieldValuesAreEqual(Object actualFieldValue, Object otherFieldValue, String fieldName,
                                                Map<String, Comparator<?>> comparatorByPropertyOrField,
@@ -15,11 +15,13 @@ package org.assertj.core.internal;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Arrays.isNullOrEmpty;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.isNullOrEmpty;
 
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.assertj.core.util.VisibleForTesting;
@@ -61,6 +63,11 @@ public class OnFieldsComparator extends FieldByFieldComparator {
     }
   }
 
+  @Override
+  List<String> comparedFieldsNames(Object element) {
+    return newArrayList(fields);
+  }
+
   @Override
   protected String description() {
     if (fields.length == 1) {
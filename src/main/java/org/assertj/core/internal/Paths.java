@@ -45,7 +45,6 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.DirectoryStream;
@@ -83,6 +82,8 @@ public class Paths {
   BinaryDiff binaryDiff = new BinaryDiff();
   @VisibleForTesting
   Failures failures = Failures.instance();
+  @VisibleForTesting
+  DigestCache digestCache = DigestCache.instance();
 
   private NioFilesWrapper nioFilesWrapper;
 
@@ -316,8 +317,9 @@ public class Paths {
     checkNotNull(expected, "The binary representation of digest to compare to should not be null");
     assertIsRegularFile(info, actual);
     assertIsReadable(info, actual);
-    try (InputStream actualStream = nioFilesWrapper.newInputStream(actual)) {
-      DigestDiff diff = Digests.digestDiff(actualStream, digest, expected);
+    try {
+      byte[] actualDigest = digestCache.digest(actual, digest, nioFilesWrapper);
+      DigestDiff diff = new DigestDiff(Digests.toHex(actualDigest), Digests.toHex(expected), digest);
       if (diff.digestsDiffer()) throw failures.failure(info, shouldHaveDigest(actual, diff));
     } catch (IOException e) {
       throw new UncheckedIOException(format("Unable to calculate digest of path:<%s>", actual), e);
@@ -12,9 +12,15 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.internal.DeepDifference.determineDifferences;
+import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
+import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
+import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -38,6 +44,21 @@ public class RecursiveFieldByFieldComparator extends FieldByFieldComparator {
     }
   }
 
+  @Override
+  List<String> comparedFieldsNames(Object element) {
+    // containers and objects without fields are not compared field by field
+    if (element instanceof Collection || element instanceof Map) return null;
+    List<String> fieldsNames = getDeclaredFieldsIncludingInherited(element.getClass()).stream()
+                                                                                     .map(Field::getName)
+                                                                                     .collect(toList());
+    return fieldsNames.isEmpty() ? null : fieldsNames;
+  }
+
+  @Override
+  Object comparedValue(String fieldName, Object element) {
+    return COMPARISON.getSimpleValue(fieldName, element);
+  }
+
   @Override
   protected String description() {
     return "recursive field/property by field/property comparator on all fields/properties";
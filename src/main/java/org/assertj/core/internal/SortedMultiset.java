@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Counts elements occurrences in a {@link TreeMap} sorted with the comparator of a
+ * {@link ComparatorBasedComparisonStrategy}, this gives the same results as comparing each element to all the others
+ * in O(n log n) time as long as the comparator defines a total order.
+ * <p>
+ * Like {@link ComparatorBasedComparisonStrategy#iterableContains(Iterable, Object)}, nulls are only equal to nulls and
+ * are never passed to the comparator.
+ */
+final class SortedMultiset {
+
+  private final TreeMap<Object, Integer> counts;
+  private int nullCount;
+
+  @SuppressWarnings("unchecked")
+  private SortedMultiset(Comparator<?> comparator) {
+    counts = new TreeMap<>((Comparator<Object>) comparator);
+  }
+
+  /**
+   * Returns the comparator of the given comparison strategy if it defines a total order, null otherwise.
+   *
+   * @param comparisonStrategy the comparison strategy the elements are compared with
+   * @return the comparator to sort the elements with or null if they can't be sorted.
+   */
+  static Comparator<?> totalOrderComparatorOf(ComparisonStrategy comparisonStrategy) {
+    if (!(comparisonStrategy instanceof ComparatorBasedComparisonStrategy)) return null;
+    ComparatorBasedComparisonStrategy comparatorBasedComparisonStrategy = (ComparatorBasedComparisonStrategy) comparisonStrategy;
+    return comparatorBasedComparisonStrategy.hasTotalOrderComparator()
+        ? comparatorBasedComparisonStrategy.getComparator()
+        : null;
+  }
+
+  static SortedMultiset of(List<?> elements, Comparator<?> comparator) {
+    SortedMultiset multiset = new SortedMultiset(comparator);
+    elements.forEach(multiset::add);
+    return multiset;
+  }
+
+  void add(Object element) {
+    if (element == null) nullCount++;
+    else counts.merge(element, 1, Integer::sum);
+  }
+
+  boolean contains(Object element) {
+    return element == null ? nullCount > 0 : counts.containsKey(element);
+  }
+
+  /**
+   * Removes one occurrence of the given element.
+   *
+   * @param element the element to remove
+   * @return true if an occurrence was found and removed, false otherwise.
+   */
+  boolean removeOne(Object element) {
+    if (element == null) {
+      if (nullCount == 0) return false;
+      nullCount--;
+      return true;
+    }
+    Integer count = counts.get(element);
+    if (count == null) return false;
+    if (count == 1) counts.remove(element);
+    else counts.put(element, count - 1);
+    return true;
+  }
+
+  /**
+   * Same as {@link HashMultiset#subtract(List, List)} with elements compared with the given total order comparator.
+   *
+   * @param first the elements we want to subtract from
+   * @param second the elements to subtract
+   * @param comparator the comparator defining a total order on the elements
+   * @return first - second
+   */
+  static List<Object> subtract(List<?> first, List<?> second, Comparator<?> comparator) {
+    SortedMultiset secondElements = of(second, comparator);
+    List<Object> result = new ArrayList<>();
+    for (Object element : first) {
+      if (!secondElements.removeOne(element)) result.add(element);
+    }
+    return result;
+  }
+
+  /**
+   * Same as {@link HashMultiset#notIn(List, List)} with elements compared with the given total order comparator.
+   *
+   * @param first the elements to filter
+   * @param second the elements to exclude
+   * @param comparator the comparator defining a total order on the elements
+   * @return the elements of first not in second.
+   */
+  static List<Object> notIn(List<?> first, List<?> second, Comparator<?> comparator) {
+    SortedMultiset secondElements = of(second, comparator);
+    List<Object> result = new ArrayList<>();
+    for (Object element : first) {
+      if (!secondElements.contains(element)) result.add(element);
+    }
+    return result;
+  }
+
+}
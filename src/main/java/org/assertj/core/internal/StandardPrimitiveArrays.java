@@ -0,0 +1,212 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Double.doubleToLongBits;
+
+/**
+ * Checks on {@code int}, {@code long} and {@code double} arrays that give the same result as {@link Arrays} with the
+ * {@link StandardComparisonStrategy} without boxing the array elements.
+ * <p>
+ * {@code double}s are compared like {@link Double#equals(Object)} and {@link Double#compareTo(Double)} do, membership
+ * checks use {@link LongHashSet}s of the elements or of the {@code double}s bits.
+ * <p>
+ * These checks only tell whether an assertion succeeds, the generic {@link Arrays} code is used to describe failures.
+ */
+final class StandardPrimitiveArrays {
+
+  /**
+   * Returns whether the given arrays are {@code int}, {@code long} or {@code double} arrays of the same type.
+   *
+   * @param actual the actual array.
+   * @param values the values array (may be the actual array for checks involving only one array).
+   * @return whether the given arrays can be checked by this class.
+   */
+  static boolean supports(Object actual, Object values) {
+    if (actual == null || values == null || actual.getClass() != values.getClass()) return false;
+    return actual instanceof int[] || actual instanceof long[] || actual instanceof double[];
+  }
+
+  static boolean containsAll(Object actual, Object values) {
+    LongHashSet valuesSet = toSet(keys(values));
+    boolean[] foundValues = new boolean[valuesSet.capacity()];
+    int notFoundCount = valuesSet.size();
+    Keys actualKeys = keys(actual);
+    for (int i = 0; i < actualKeys.size() && notFoundCount > 0; i++) {
+      int slot = valuesSet.slotOf(actualKeys.get(i));
+      if (slot != -1 && !foundValues[slot]) {
+        foundValues[slot] = true;
+        notFoundCount--;
+      }
+    }
+    return notFoundCount == 0;
+  }
+
+  static boolean containsNone(Object actual, Object values) {
+    LongHashSet valuesSet = toSet(keys(values));
+    Keys actualKeys = keys(actual);
+    for (int i = 0; i < actualKeys.size(); i++) {
+      if (valuesSet.contains(actualKeys.get(i))) return false;
+    }
+    return true;
+  }
+
+  static boolean containsOnly(Object actual, Object values) {
+    LongHashSet valuesSet = toSet(keys(values));
+    boolean[] foundValues = new boolean[valuesSet.capacity()];
+    int notFoundCount = valuesSet.size();
+    Keys actualKeys = keys(actual);
+    for (int i = 0; i < actualKeys.size(); i++) {
+      int slot = valuesSet.slotOf(actualKeys.get(i));
+      if (slot == -1) return false;
+      if (!foundValues[slot]) {
+        foundValues[slot] = true;
+        notFoundCount--;
+      }
+    }
+    return notFoundCount == 0;
+  }
+
+  static boolean containsExactly(Object actual, Object values) {
+    if (actual instanceof int[]) return java.util.Arrays.equals((int[]) actual, (int[]) values);
+    if (actual instanceof long[]) return java.util.Arrays.equals((long[]) actual, (long[]) values);
+    // compares doubles bits like Double.equals
+    return java.util.Arrays.equals((double[]) actual, (double[]) values);
+  }
+
+  static boolean containsSequence(Object actual, Object sequence) {
+    Keys actualKeys = keys(actual);
+    Keys sequenceKeys = keys(sequence);
+    int lastIndexWhereSequenceCanBeFound = actualKeys.size() - sequenceKeys.size();
+    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
+      int i = 0;
+      while (i < sequenceKeys.size() && actualKeys.get(actualIndex + i) == sequenceKeys.get(i)) i++;
+      if (i == sequenceKeys.size()) return true;
+    }
+    return false;
+  }
+
+  static boolean hasNoDuplicates(Object actual) {
+    Keys actualKeys = keys(actual);
+    long[] sortedKeys = new long[actualKeys.size()];
+    for (int i = 0; i < sortedKeys.length; i++) {
+      sortedKeys[i] = actualKeys.get(i);
+    }
+    java.util.Arrays.sort(sortedKeys);
+    for (int i = 1; i < sortedKeys.length; i++) {
+      if (sortedKeys[i - 1] == sortedKeys[i]) return false;
+    }
+    return true;
+  }
+
+  static boolean isSorted(Object actual) {
+    if (actual instanceof int[]) {
+      int[] array = (int[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (array[i - 1] > array[i]) return false;
+      }
+    } else if (actual instanceof long[]) {
+      long[] array = (long[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (array[i - 1] > array[i]) return false;
+      }
+    } else {
+      double[] array = (double[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (Double.compare(array[i - 1], array[i]) > 0) return false;
+      }
+    }
+    return true;
+  }
+
+  private static LongHashSet toSet(Keys keys) {
+    LongHashSet set = new LongHashSet(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      set.add(keys.get(i));
+    }
+    return set;
+  }
+
+  private static Keys keys(Object array) {
+    if (array instanceof int[]) return new IntKeys((int[]) array);
+    if (array instanceof long[]) return new LongKeys((long[]) array);
+    return new DoubleKeys((double[]) array);
+  }
+
+  /**
+   * Array elements as {@code long}s, two elements are equal according to the standard comparison strategy if and only
+   * if their keys are equal.
+   */
+  private interface Keys {
+    int size();
+
+    long get(int index);
+  }
+
+  private static final class IntKeys implements Keys {
+    private final int[] array;
+
+    private IntKeys(int[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int size() {
+      return array.length;
+    }
+
+    @Override
+    public long get(int index) {
+      return array[index];
+    }
+  }
+
+  private static final class LongKeys implements Keys {
+    private final long[] array;
+
+    private LongKeys(long[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int size() {
+      return array.length;
+    }
+
+    @Override
+    public long get(int index) {
+      return array[index];
+    }
+  }
+
+  private static final class DoubleKeys implements Keys {
+    private final double[] array;
+
+    private DoubleKeys(double[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public int size() {
+      return array.length;
+    }
+
+    @Override
+    public long get(int index) {
+      // like Double.equals: NaN equals NaN, 0.0 is not equal to -0.0
+      return doubleToLongBits(array[index]);
+    }
+  }
+
+  private StandardPrimitiveArrays() {}
+}
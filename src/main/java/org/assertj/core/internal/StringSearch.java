@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.fill;
+
+/**
+ * Case insensitive search of a string in another one that does not copy the searched string.
+ * <p>
+ * Characters are compared like {@link String#regionMatches(boolean, int, String, int, int)} and
+ * {@link String#CASE_INSENSITIVE_ORDER} do, the search uses the Boyer-Moore-Horspool algorithm on case folded
+ * characters.
+ */
+final class StringSearch {
+
+  // the bad character shifts are indexed by the low bits of the characters, chars sharing the same low bits keep the
+  // smallest shift which is always safe
+  private static final int SHIFTS_MASK = 0xFF;
+
+  /**
+   * Returns the index of the first occurrence of the given sequence in the given string ignoring case considerations,
+   * starting at the given index, -1 if there is no such occurrence.
+   * <p>
+   * Like {@link String#indexOf(String, int)}, a negative index is handled as 0 and an empty sequence is found at the
+   * given index (or at the end of the string if the index is greater than the string length).
+   *
+   * @param string the string to search in.
+   * @param sequence the sequence to search for.
+   * @param fromIndex the index to start the search from.
+   * @return the index of the first occurrence of the sequence in the string ignoring case, -1 if there is none.
+   */
+  static int indexOfIgnoringCase(String string, String sequence, int fromIndex) {
+    int stringLength = string.length();
+    int sequenceLength = sequence.length();
+    int start = Math.max(fromIndex, 0);
+    if (sequenceLength == 0) return Math.min(start, stringLength);
+    if (start > stringLength - sequenceLength) return -1;
+    char[] foldedSequence = new char[sequenceLength];
+    for (int i = 0; i < sequenceLength; i++) {
+      foldedSequence[i] = fold(sequence.charAt(i));
+    }
+    int[] shifts = new int[SHIFTS_MASK + 1];
+    fill(shifts, sequenceLength);
+    int last = sequenceLength - 1;
+    for (int i = 0; i < last; i++) {
+      shifts[foldedSequence[i] & SHIFTS_MASK] = last - i;
+    }
+    char lastChar = foldedSequence[last];
+    for (int i = start; i <= stringLength - sequenceLength;) {
+      char c = fold(string.charAt(i + last));
+      if (c == lastChar) {
+        int j = last - 1;
+        while (j >= 0 && fold(string.charAt(i + j)) == foldedSequence[j]) j--;
+        if (j < 0) return i;
+      }
+      i += shifts[c & SHIFTS_MASK];
+    }
+    return -1;
+  }
+
+  private static char fold(char c) {
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+
+  private StringSearch() {}
+}
@@ -506,7 +506,7 @@ public class Strings {
   public void assertContainsIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence sequence) {
     checkCharSequenceIsNotNull(sequence);
     assertNotNull(info, actual);
-    if (!actual.toString().toLowerCase().contains(sequence.toString().toLowerCase()))
+    if (StringSearch.indexOfIgnoringCase(actual.toString(), sequence.toString(), 0) == -1)
       throw failures.failure(info, shouldContainIgnoringCase(actual, sequence));
   }
 
@@ -714,10 +714,11 @@ public class Strings {
     String strToSearch = sequenceToSearch.toString();
     String strActual = actual.toString();
     int occurrences = 0;
-    for (int i = 0; i <= (strActual.length() - strToSearch.length()); i++) {
-      if (comparisonStrategy.areEqual(strActual.substring(i, i + sequenceToSearch.length()), strToSearch)) {
-        occurrences++;
-      }
+    // occurrences may overlap, look for the next one from the char following the current occurrence start
+    for (int index = indexOf(strActual, strToSearch, 0); index != -1; index = indexOf(strActual, strToSearch, index + 1)) {
+      occurrences++;
+      // an empty sequence is found at the end of actual
+      if (index == strActual.length()) break;
     }
     return occurrences;
   }
@@ -943,31 +944,30 @@ public class Strings {
     // we have found all the given values but were they in the expected order ?
     if (subsequence.length == 1) return; // no order check needed for a one element subsequence
 
-    // the values are in the correct order if after removing the start of actual up to the
-    // subsequence element included, we are able to find the next subsequence element, ex:
-    // "{ George Martin }" with subsequence ["George", " ", "Martin"]:
-    // - remove up to "George" in "{ George Martin }" -> " Martin }", does it contain " " ?
-    // - remove up to " " in " Martin }" -> "Martin }", does it contain "Martin" ?
+    // the values are in the correct order if we are able to find each subsequence element after
+    // the end of the previous one, ex: "{ George Martin }" with subsequence ["George", " ", "Martin"]:
+    // - "George" ends at index 8 in "{ George Martin }", is there a " " from index 8 ?
+    // - " " ends at index 9, is there a "Martin" from index 9 ?
     // ...
-    String actualRest = removeUpTo(actual.toString(), subsequence[0]);
+    String strActual = actual.toString();
+    int fromIndex = indexOf(strActual, subsequence[0].toString(), 0) + subsequence[0].length();
     // check the subsequence second element since we already know the first is present
     for (int i = 1; i < subsequence.length; i++) {
-      if (stringContains(actualRest, subsequence[i])) actualRest = removeUpTo(actualRest, subsequence[i]);
-      else throw failures.failure(info, shouldContainSubsequence(actual, subsequence, i - 1, comparisonStrategy));
+      int index = indexOf(strActual, subsequence[i].toString(), fromIndex);
+      if (index == -1) throw failures.failure(info, shouldContainSubsequence(actual, subsequence, i - 1, comparisonStrategy));
+      fromIndex = index + subsequence[i].length();
     }
   }
 
-  private String removeUpTo(String string, CharSequence toRemove) {
-    int index = indexOf(string, toRemove);
-    // remove the start of string up to toRemove included
-    return string.substring(index + toRemove.length());
-  }
-
-  private int indexOf(String string, CharSequence toFind) {
-    for (int i = 0; i < string.length(); i++) {
-      if (comparisonStrategy.stringStartsWith(string.substring(i), toFind.toString())) return i;
+  /**
+   * Returns the index of the first occurrence of toFind in string according to the comparison strategy, starting at the
+   * given index, -1 if there is none.
+   */
+  private int indexOf(String string, String toFind, int fromIndex) {
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      return ((ComparatorBasedComparisonStrategy) comparisonStrategy).stringIndexOf(string, toFind, fromIndex);
     }
-    return -1;
+    return string.indexOf(toFind, fromIndex);
   }
 
   public void assertXmlEqualsTo(AssertionInfo info, CharSequence actualXml, CharSequence expectedXml) {
@@ -20,7 +20,9 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.util.DoubleComparator;
@@ -31,6 +33,9 @@ import org.assertj.core.util.introspection.ClassUtils;
 /**
  * An internal holder of the comparators for type. It is used to store comparators for registered classes.
  * When looking for a Comparator for a given class the holder returns the most relevant comparator.
+ * <p>
+ * The most relevant comparator of a class (or the absence of comparator) is resolved once and then remembered until
+ * comparators are registered or cleared.
  *
  * @author Filip Hrisafov
  */
@@ -54,6 +59,10 @@ public class TypeComparators {
   @VisibleForTesting
   Map<Class<?>, Comparator<?>> typeComparators;
 
+  // most relevant comparator per looked up class (empty if none), cleared when registered comparators change.
+  // looked up concurrently by parallel recursive comparisons.
+  private final Map<Class<?>, Optional<Comparator<?>>> resolvedComparators = new ConcurrentHashMap<>();
+
   public static TypeComparators defaultTypeComparators() {
     TypeComparators comparatorByType = new TypeComparators();
     comparatorByType.put(Double.class, DEFAULT_DOUBLE_COMPARATOR);
@@ -77,6 +86,15 @@ public class TypeComparators {
    * @return the most relevant comparator, or {@code null} if no comparator could be found
    */
   public Comparator<?> get(Class<?> clazz) {
+    Optional<Comparator<?>> comparator = resolvedComparators.get(clazz);
+    if (comparator == null) {
+      comparator = Optional.ofNullable(resolve(clazz));
+      resolvedComparators.put(clazz, comparator);
+    }
+    return comparator.orElse(null);
+  }
+
+  private Comparator<?> resolve(Class<?> clazz) {
     Comparator<?> comparator = typeComparators.get(clazz);
     if (comparator == null) {
       for (Class<?> superClass : ClassUtils.getAllSuperclasses(clazz)) {
@@ -106,6 +124,7 @@ public class TypeComparators {
    */
   public <T> void put(Class<T> clazz, Comparator<? super T> comparator) {
     typeComparators.put(clazz, comparator);
+    resolvedComparators.clear();
   }
 
   /**
@@ -120,6 +139,7 @@ public class TypeComparators {
    */
   public void clear() {
     typeComparators.clear();
+    resolvedComparators.clear();
   }
 
   public Stream<Entry<Class<?>, Comparator<?>>> comparatorByTypes() {
@@ -30,7 +30,6 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -41,6 +40,7 @@ import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
@@ -50,15 +50,16 @@ import java.util.concurrent.atomic.AtomicMarkableReference;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.assertj.core.configuration.Configuration;
+import org.assertj.core.configuration.ConfigurationScope;
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.groups.Tuple;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.util.Arrays;
 import org.assertj.core.util.DateUtil;
-import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.diff.ChangeDelta;
 import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.InsertDelta;
@@ -91,11 +92,30 @@ public class StandardRepresentation implements Representation {
   public static final String ELEMENT_SEPARATOR = ",";
   public static final String ELEMENT_SEPARATOR_WITH_NEWLINE = ELEMENT_SEPARATOR + System.lineSeparator();
 
-  private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
-  private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+  private static volatile int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
+  private static volatile int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
 
-  private static final Map<Class<?>, Function<?, String>> customFormatterByType = new HashMap<>();
+  private static final Map<Class<?>, Function<?, String>> customFormatterByType = new ConcurrentHashMap<>();
 
+  // resolving the formatter of a type once avoids going through all the instanceof checks for each formatted value
+  private static final ClassValue<BiFunction<StandardRepresentation, Object, String>> FORMATTER_BY_TYPE =
+      new ClassValue<BiFunction<StandardRepresentation, Object, String>>() {
+    @Override
+    protected BiFunction<StandardRepresentation, Object, String> computeValue(Class<?> type) {
+      return formatterFor(type);
+    }
+  };
+
+  // the single line description can only be given up early when the subclass does not customize it
+  private static final ClassValue<Boolean> SINGLE_LINE_FORMAT_OVERRIDDEN = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return overrides(type, "singleLineFormat", Iterable.class, String.class, String.class)
+             || overrides(type, "format", Iterable.class, String.class, String.class, String.class, String.class)
+             || overrides(type, "singleLineFormat", Object[].class, Set.class)
+             || overrides(type, "format", Object[].class, String.class, String.class, Set.class);
+    }
+  };
 
   /**
    * It resets the static defaults for the standard representation.
@@ -116,9 +136,15 @@ public class StandardRepresentation implements Representation {
     maxLengthForSingleLineDescription = value;
   }
 
-  @VisibleForTesting
+  /**
+   * Returns the maximum length for an iterable/array to be displayed on one line, the one of the
+   * {@link ConfigurationScope} applying to the current thread if any.
+   *
+   * @return the maximum length for an iterable/array to be displayed on one line.
+   */
   public static int getMaxLengthForSingleLineDescription() {
-    return maxLengthForSingleLineDescription;
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? maxLengthForSingleLineDescription : scope.maxLengthForSingleLineDescription();
   }
 
   public static void setMaxElementsForPrinting(int value) {
@@ -126,9 +152,15 @@ public class StandardRepresentation implements Representation {
     maxElementsForPrinting = value;
   }
 
-  @VisibleForTesting
+  /**
+   * Returns the maximum number of elements printed for an iterable/array/map, the one of the
+   * {@link ConfigurationScope} applying to the current thread if any.
+   *
+   * @return the maximum number of elements printed for an iterable/array/map.
+   */
   public static int getMaxElementsForPrinting() {
-    return maxElementsForPrinting;
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? maxElementsForPrinting : scope.maxElementsForPrinting();
   }
 
   /**
@@ -160,37 +192,77 @@ public class StandardRepresentation implements Representation {
   public String toStringOf(Object object) {
     if (object == null) return null;
     if (hasCustomFormatterFor(object)) return customFormat(object);
-    if (object instanceof ComparatorBasedComparisonStrategy) return toStringOf((ComparatorBasedComparisonStrategy) object);
-    if (object instanceof Calendar) return toStringOf((Calendar) object);
-    if (object instanceof Class<?>) return toStringOf((Class<?>) object);
-    if (object instanceof Date) return toStringOf((Date) object);
-    if (object instanceof AtomicBoolean) return toStringOf((AtomicBoolean) object);
-    if (object instanceof AtomicInteger) return toStringOf((AtomicInteger) object);
-    if (object instanceof AtomicLong) return toStringOf((AtomicLong) object);
-    if (object instanceof AtomicReference) return toStringOf((AtomicReference<?>) object);
-    if (object instanceof AtomicMarkableReference) return toStringOf((AtomicMarkableReference<?>) object);
-    if (object instanceof AtomicStampedReference) return toStringOf((AtomicStampedReference<?>) object);
-    if (object instanceof AtomicIntegerFieldUpdater) return AtomicIntegerFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicLongFieldUpdater) return AtomicLongFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicReferenceFieldUpdater) return AtomicReferenceFieldUpdater.class.getSimpleName();
-    if (object instanceof Number) return toStringOf((Number) object);
-    if (object instanceof File) return toStringOf((File) object);
-    if (object instanceof String) return toStringOf((String) object);
-    if (object instanceof Character) return toStringOf((Character) object);
-    if (object instanceof Comparator) return toStringOf((Comparator<?>) object);
-    if (object instanceof SimpleDateFormat) return toStringOf((SimpleDateFormat) object);
-    if (object instanceof PredicateDescription) return toStringOf((PredicateDescription) object);
-    if (object instanceof CompletableFuture) return toStringOf((CompletableFuture<?>) object);
-    if (isArray(object)) return formatArray(object);
-    if (object instanceof Collection<?>) return smartFormat((Collection<?>) object);
-    if (object instanceof Map<?, ?>) return toStringOf((Map<?, ?>) object);
-    if (object instanceof Tuple) return toStringOf((Tuple) object);
-    if (object instanceof MapEntry) return toStringOf((MapEntry<?, ?>) object);
-    if (object instanceof Method) return ((Method) object).toGenericString();
-    if (object instanceof InsertDelta<?>) return toStringOf((InsertDelta<?>) object);
-    if (object instanceof ChangeDelta<?>) return toStringOf((ChangeDelta<?>) object);
-    if (object instanceof DeleteDelta<?>) return toStringOf((DeleteDelta<?>) object);
-    return object == null ? null : fallbackToStringOf(object);
+    return FORMATTER_BY_TYPE.get(object.getClass()).apply(this, object);
+  }
+
+  /**
+   * Resolves how to format the instances of the given type, the formatters are checked in the same order as the
+   * {@code instanceof} checks they replace.
+   */
+  private static BiFunction<StandardRepresentation, Object, String> formatterFor(Class<?> type) {
+    if (is(type, ComparatorBasedComparisonStrategy.class))
+      return (representation, object) -> representation.toStringOf((ComparatorBasedComparisonStrategy) object);
+    if (is(type, Calendar.class)) return (representation, object) -> representation.toStringOf((Calendar) object);
+    if (is(type, Class.class)) return (representation, object) -> representation.toStringOf((Class<?>) object);
+    if (is(type, Date.class)) return (representation, object) -> representation.toStringOf((Date) object);
+    if (is(type, AtomicBoolean.class)) return (representation, object) -> representation.toStringOf((AtomicBoolean) object);
+    if (is(type, AtomicInteger.class)) return (representation, object) -> representation.toStringOf((AtomicInteger) object);
+    if (is(type, AtomicLong.class)) return (representation, object) -> representation.toStringOf((AtomicLong) object);
+    if (is(type, AtomicReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicReference<?>) object);
+    if (is(type, AtomicMarkableReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicMarkableReference<?>) object);
+    if (is(type, AtomicStampedReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicStampedReference<?>) object);
+    if (is(type, AtomicIntegerFieldUpdater.class))
+      return (representation, object) -> AtomicIntegerFieldUpdater.class.getSimpleName();
+    if (is(type, AtomicLongFieldUpdater.class)) return (representation, object) -> AtomicLongFieldUpdater.class.getSimpleName();
+    if (is(type, AtomicReferenceFieldUpdater.class))
+      return (representation, object) -> AtomicReferenceFieldUpdater.class.getSimpleName();
+    if (is(type, Number.class)) return (representation, object) -> representation.toStringOf((Number) object);
+    if (is(type, File.class)) return (representation, object) -> representation.toStringOf((File) object);
+    if (is(type, String.class)) return (representation, object) -> representation.toStringOf((String) object);
+    if (is(type, Character.class)) return (representation, object) -> representation.toStringOf((Character) object);
+    if (is(type, Comparator.class)) return (representation, object) -> representation.toStringOf((Comparator<?>) object);
+    if (is(type, SimpleDateFormat.class))
+      return (representation, object) -> representation.toStringOf((SimpleDateFormat) object);
+    if (is(type, PredicateDescription.class))
+      return (representation, object) -> representation.toStringOf((PredicateDescription) object);
+    if (is(type, CompletableFuture.class))
+      return (representation, object) -> representation.toStringOf((CompletableFuture<?>) object);
+    if (type.isArray()) return StandardRepresentation::formatArray;
+    if (is(type, Collection.class)) return (representation, object) -> representation.smartFormat((Collection<?>) object);
+    if (is(type, Map.class)) return (representation, object) -> representation.toStringOf((Map<?, ?>) object);
+    if (is(type, Tuple.class)) return (representation, object) -> representation.toStringOf((Tuple) object);
+    if (is(type, MapEntry.class)) return (representation, object) -> representation.toStringOf((MapEntry<?, ?>) object);
+    if (is(type, Method.class)) return (representation, object) -> ((Method) object).toGenericString();
+    if (is(type, InsertDelta.class)) return (representation, object) -> representation.toStringOf((InsertDelta<?>) object);
+    if (is(type, ChangeDelta.class)) return (representation, object) -> representation.toStringOf((ChangeDelta<?>) object);
+    if (is(type, DeleteDelta.class)) return (representation, object) -> representation.toStringOf((DeleteDelta<?>) object);
+    return StandardRepresentation::fallbackToStringOf;
+  }
+
+  private static boolean is(Class<?> type, Class<?> supertype) {
+    return supertype.isAssignableFrom(type);
+  }
+
+  private static boolean overrides(Class<?> type, String methodName, Class<?>... parameterTypes) {
+    for (Class<?> subclass = type; subclass != StandardRepresentation.class; subclass = subclass.getSuperclass()) {
+      try {
+        subclass.getDeclaredMethod(methodName, parameterTypes);
+        return true;
+      } catch (NoSuchMethodException e) {
+        // not declared at this level, check the superclass
+      } catch (SecurityException e) {
+        // can't tell, assume it is overridden
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isSingleLineFormatOverridden() {
+    return SINGLE_LINE_FORMAT_OVERRIDDEN.get(getClass());
   }
 
   @SuppressWarnings("unchecked")
@@ -328,10 +400,11 @@ public class StandardRepresentation implements Representation {
     Iterator<?> entriesIterator = sortedMap.entrySet().iterator();
     if (!entriesIterator.hasNext()) return "{}";
     StringBuilder builder = new StringBuilder("{");
+    int maxElements = getMaxElementsForPrinting();
     int printedElements = 0;
     for (;;) {
       Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
-      if (printedElements == maxElementsForPrinting) {
+      if (printedElements == maxElements) {
         builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
         return builder.append("}").toString();
       }
@@ -416,43 +489,66 @@ public class StandardRepresentation implements Representation {
 
   protected String smartFormat(Object[] iterable) {
     Set<Object[]> alreadyFormatted = new HashSet<>();
-    String singleLineDescription = singleLineFormat(iterable, alreadyFormatted);
-    return doesDescriptionFitOnSingleLine(singleLineDescription)
+    if (isSingleLineFormatOverridden()) {
+      String singleLineDescription = singleLineFormat(iterable, alreadyFormatted);
+      return doesDescriptionFitOnSingleLine(singleLineDescription)
+          ? singleLineDescription
+          : multiLineFormat(iterable, alreadyFormatted);
+    }
+    // stop formatting to a single line as soon as the description is too long
+    String singleLineDescription = format(iterable, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, alreadyFormatted,
+                                          getMaxLengthForSingleLineDescription());
+    return singleLineDescription != null || iterable == null
         ? singleLineDescription
         : multiLineFormat(iterable, alreadyFormatted);
   }
 
   protected String format(Object[] array, String elementSeparator,
                           String indentation, Set<Object[]> alreadyFormatted) {
+    return format(array, elementSeparator, indentation, alreadyFormatted, Integer.MAX_VALUE);
+  }
+
+  // gives up and returns null as soon as the description reaches maxLength characters
+  private String format(Object[] array, String elementSeparator, String indentation, Set<Object[]> alreadyFormatted,
+                        int maxLength) {
     if (array == null) return null;
-    if (array.length == 0) return DEFAULT_START + DEFAULT_END;
+    if (array.length == 0) return descriptionWithin(new StringBuilder(DEFAULT_START).append(DEFAULT_END), maxLength);
     // iterable has some elements
     StringBuilder desc = new StringBuilder();
     desc.append(DEFAULT_START);
     alreadyFormatted.add(array); // used to avoid infinite recursion when array contains itself
-    int i = 0;
-    while (true) {
-      Object element = array[i];
-      // do not indent first element
-      if (i != 0) desc.append(indentation);
-      if (i == maxElementsForPrinting) {
-        desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
-        alreadyFormatted.remove(array);
-        return desc.append(DEFAULT_END).toString();
-      }
-      // add element representation
-      if (!isArray(element)) desc.append(element == null ? NULL : toStringOf(element));
-      else if (isArrayTypePrimitive(element)) desc.append(formatPrimitiveArray(element));
-      else if (alreadyFormatted.contains(element)) desc.append("(this array)");
-      else desc.append(format((Object[]) element, elementSeparator, indentation, alreadyFormatted));
-      // manage end description
-      if (i == array.length - 1) {
-        alreadyFormatted.remove(array);
-        return desc.append(DEFAULT_END).toString();
+    try {
+      int maxElements = getMaxElementsForPrinting();
+      int i = 0;
+      while (true) {
+        Object element = array[i];
+        // do not indent first element
+        if (i != 0) desc.append(indentation);
+        if (i == maxElements) {
+          desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+          return descriptionWithin(desc.append(DEFAULT_END), maxLength);
+        }
+        // add element representation
+        if (!isArray(element)) desc.append(element == null ? NULL : toStringOf(element));
+        else if (isArrayTypePrimitive(element)) desc.append(formatPrimitiveArray(element));
+        else if (alreadyFormatted.contains(element)) desc.append("(this array)");
+        else if (maxLength == Integer.MAX_VALUE) desc.append(format((Object[]) element, elementSeparator, indentation,
+                                                                    alreadyFormatted));
+        else {
+          String elementDescription = format((Object[]) element, elementSeparator, indentation, alreadyFormatted,
+                                             maxLength - desc.length());
+          if (elementDescription == null) return null;
+          desc.append(elementDescription);
+        }
+        if (desc.length() >= maxLength) return null;
+        // manage end description
+        if (i == array.length - 1) return descriptionWithin(desc.append(DEFAULT_END), maxLength);
+        // there are still elements to describe
+        desc.append(elementSeparator);
+        i++;
       }
-      // there are still elements to describe
-      desc.append(elementSeparator);
-      i++;
+    } finally {
+      alreadyFormatted.remove(array);
     }
   }
 
@@ -464,10 +560,11 @@ public class StandardRepresentation implements Representation {
     StringBuilder buffer = new StringBuilder();
     buffer.append(DEFAULT_START);
     buffer.append(toStringOf(Array.get(o, 0)));
+    int maxElements = getMaxElementsForPrinting();
     for (int i = 1; i < size; i++) {
       buffer.append(ELEMENT_SEPARATOR)
             .append(INDENTATION_FOR_SINGLE_LINE);
-      if (i == maxElementsForPrinting) {
+      if (i == maxElements) {
         buffer.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
         break;
       }
@@ -479,12 +576,19 @@ public class StandardRepresentation implements Representation {
   }
 
   public String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation) {
+    return format(iterable, start, end, elementSeparator, indentation, Integer.MAX_VALUE);
+  }
+
+  // gives up and returns null as soon as the description reaches maxLength characters
+  private String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation,
+                        int maxLength) {
     if (iterable == null) return null;
     Iterator<?> iterator = iterable.iterator();
-    if (!iterator.hasNext()) return start + end;
+    if (!iterator.hasNext()) return descriptionWithin(new StringBuilder(start).append(end), maxLength);
     // iterable has some elements
     StringBuilder desc = new StringBuilder(start);
     boolean firstElement = true;
+    int maxElements = getMaxElementsForPrinting();
     int printedElements = 0;
     while (true) {
       Object element = iterator.next();
@@ -492,19 +596,24 @@ public class StandardRepresentation implements Representation {
       if (firstElement) firstElement = false;
       else desc.append(indentation);
       // add element representation
-      if (printedElements == maxElementsForPrinting) {
+      if (printedElements == maxElements) {
         desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
-        return desc.append(end).toString();
+        return descriptionWithin(desc.append(end), maxLength);
       }
       desc.append(element == iterable ? "(this Collection)" : toStringOf(element));
       printedElements++;
+      if (desc.length() >= maxLength) return null;
       // manage end description
-      if (!iterator.hasNext()) return desc.append(end).toString();
+      if (!iterator.hasNext()) return descriptionWithin(desc.append(end), maxLength);
       // there are still elements to be describe
       desc.append(elementSeparator);
     }
   }
 
+  private static String descriptionWithin(StringBuilder description, int maxLength) {
+    return description.length() < maxLength ? description.toString() : null;
+  }
+
   protected String multiLineFormat(Iterable<?> iterable) {
     return format(iterable, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE, INDENTATION_AFTER_NEWLINE);
   }
@@ -524,12 +633,18 @@ public class StandardRepresentation implements Representation {
    * @return the {@code String} representation of the given {@code Iterable}.
    */
   protected String smartFormat(Iterable<?> iterable) {
-    String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
-    return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    if (isSingleLineFormatOverridden()) {
+      String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
+      return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    }
+    // stop formatting to a single line as soon as the description is too long
+    String singleLineDescription = format(iterable, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE,
+                                          getMaxLengthForSingleLineDescription());
+    return singleLineDescription != null || iterable == null ? singleLineDescription : multiLineFormat(iterable);
   }
 
   private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
-    return singleLineDescription == null || singleLineDescription.length() < maxLengthForSingleLineDescription;
+    return singleLineDescription == null || singleLineDescription.length() < getMaxLengthForSingleLineDescription();
   }
 
 }
@@ -0,0 +1,211 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * Linear space variant of the Myers differencing algorithm (section 4b of the paper).
+ * <p>
+ * Instead of keeping the whole explored path, the sequences are split around the middle snake of an optimal path and
+ * each half is diffed recursively, only the furthest reaching diagonals of the current step and a changed flag per
+ * element are kept. Elements are interned to {@code int} ids once so that the inner loops only compare ints.
+ * <p>
+ * Elements are compared with {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  // packed snake starts are positive
+  private static final long NO_MIDDLE_SNAKE = -1L;
+
+  private int[] original;
+  private int[] revised;
+  private boolean[] originalChanged;
+  private boolean[] revisedChanged;
+  // furthest reaching forward and backward paths indexed by diagonal + offset
+  private int[] forward;
+  private int[] backward;
+  private int offset;
+
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    List<T> originalElements = randomAccess(original);
+    List<T> revisedElements = randomAccess(revised);
+    intern(originalElements, revisedElements);
+    int n = this.original.length;
+    int m = this.revised.length;
+    originalChanged = new boolean[n];
+    revisedChanged = new boolean[m];
+    int max = (n + m + 1) / 2 + 1;
+    offset = max + 1;
+    forward = new int[2 * offset + 1];
+    backward = new int[2 * offset + 1];
+    // according to Myers a middle snake is always found, should it not be the case fall back to the classic algorithm
+    if (!compare(0, n, 0, m)) return new MyersDiff<T>().classicDiff(original, revised);
+    return buildPatch(originalElements, revisedElements);
+  }
+
+  private static <T> List<T> randomAccess(List<T> list) {
+    return list instanceof RandomAccess ? list : new ArrayList<>(list);
+  }
+
+  private void intern(List<T> originalElements, List<T> revisedElements) {
+    Map<T, Integer> ids = new HashMap<>();
+    original = new int[originalElements.size()];
+    for (int i = 0; i < original.length; i++) {
+      original[i] = id(originalElements.get(i), ids);
+    }
+    revised = new int[revisedElements.size()];
+    for (int i = 0; i < revised.length; i++) {
+      revised[i] = id(revisedElements.get(i), ids);
+    }
+  }
+
+  private static <T> int id(T element, Map<T, Integer> ids) {
+    Integer id = ids.get(element);
+    if (id == null) {
+      id = ids.size();
+      ids.put(element, id);
+    }
+    return id;
+  }
+
+  /**
+   * Flags the changed elements of original[originalStart, originalEnd) and revised[revisedStart, revisedEnd), returns
+   * false if a middle snake could not be found.
+   */
+  private boolean compare(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+    // skip common prefix and suffix, this guarantees the middle snake splits the problem in two smaller ones
+    while (originalStart < originalEnd && revisedStart < revisedEnd && original[originalStart] == revised[revisedStart]) {
+      originalStart++;
+      revisedStart++;
+    }
+    while (originalStart < originalEnd && revisedStart < revisedEnd
+           && original[originalEnd - 1] == revised[revisedEnd - 1]) {
+      originalEnd--;
+      revisedEnd--;
+    }
+    if (originalStart == originalEnd) {
+      for (int j = revisedStart; j < revisedEnd; j++) revisedChanged[j] = true;
+    } else if (revisedStart == revisedEnd) {
+      for (int i = originalStart; i < originalEnd; i++) originalChanged[i] = true;
+    } else {
+      // the optimal path goes through (originalStart + x, revisedStart + x - k)
+      long middle = middleSnakeStart(originalStart, originalEnd, revisedStart, revisedEnd);
+      if (middle == NO_MIDDLE_SNAKE) return false;
+      int x = (int) (middle >>> 32);
+      int y = (int) middle;
+      return compare(originalStart, originalStart + x, revisedStart, revisedStart + y)
+             && compare(originalStart + x, originalEnd, revisedStart + y, revisedEnd);
+    }
+    return true;
+  }
+
+  /**
+   * Returns the start of the middle snake, relative to the given starts, packed in a long (x in the high bits, y in the
+   * low ones) or {@link #NO_MIDDLE_SNAKE} if it could not be found. Both sequences are not empty and have different
+   * first and last elements.
+   */
+  private long middleSnakeStart(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+    int n = originalEnd - originalStart;
+    int m = revisedEnd - revisedStart;
+    int delta = n - m;
+    boolean odd = (delta & 1) != 0;
+    forward[offset + 1] = 0;
+    backward[offset + 1] = 0;
+    int maxD = (n + m + 1) / 2;
+    for (int d = 0; d <= maxD; d++) {
+      for (int k = -d; k <= d; k += 2) {
+        int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+            ? forward[offset + k + 1]
+            : forward[offset + k - 1] + 1;
+        int y = x - k;
+        int snakeStartX = x;
+        int snakeStartY = y;
+        while (x < n && y < m && original[originalStart + x] == revised[revisedStart + y]) {
+          x++;
+          y++;
+        }
+        forward[offset + k] = x;
+        if (odd && k >= delta - (d - 1) && k <= delta + (d - 1) && x + backward[offset + delta - k] >= n) {
+          return pack(snakeStartX, snakeStartY);
+        }
+      }
+      for (int k = -d; k <= d; k += 2) {
+        // coordinates are measured from the end of both sequences
+        int x = k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])
+            ? backward[offset + k + 1]
+            : backward[offset + k - 1] + 1;
+        int y = x - k;
+        while (x < n && y < m && original[originalEnd - 1 - x] == revised[revisedEnd - 1 - y]) {
+          x++;
+          y++;
+        }
+        backward[offset + k] = x;
+        if (!odd && delta - k >= -d && delta - k <= d && x + forward[offset + delta - k] >= n) {
+          return pack(n - x, m - y);
+        }
+      }
+    }
+    // According to Myers, this cannot happen
+    return NO_MIDDLE_SNAKE;
+  }
+
+  private static long pack(int x, int y) {
+    return ((long) x << 32) | (y & 0xFFFFFFFFL);
+  }
+
+  private Patch<T> buildPatch(List<T> orig, List<T> rev) {
+    Patch<T> patch = new Patch<>();
+    int i = 0;
+    int j = 0;
+    while (i < original.length || j < revised.length) {
+      if (i < original.length && j < revised.length && !originalChanged[i] && !revisedChanged[j]) {
+        i++;
+        j++;
+        continue;
+      }
+      int originalDeltaStart = i;
+      int revisedDeltaStart = j;
+      while (i < original.length && originalChanged[i]) i++;
+      while (j < revised.length && revisedChanged[j]) j++;
+      patch.addDelta(delta(new Chunk<>(originalDeltaStart, new ArrayList<>(orig.subList(originalDeltaStart, i))),
+                           new Chunk<>(revisedDeltaStart, new ArrayList<>(rev.subList(revisedDeltaStart, j)))));
+    }
+    return patch;
+  }
+
+  private static <T> Delta<T> delta(Chunk<T> original, Chunk<T> revised) {
+    if (original.size() == 0) return new InsertDelta<>(original, revised);
+    if (revised.size() == 0) return new DeleteDelta<>(original, revised);
+    return new ChangeDelta<>(original, revised);
+  }
+}
@@ -40,6 +40,12 @@ import org.assertj.core.util.diff.Patch;
  */
 public class MyersDiff<T> implements DiffAlgorithm<T> {
 
+  /**
+   * Above this total number of elements, the diff is computed by {@link LinearSpaceMyersDiff} as keeping the whole
+   * explored path would need too much memory.
+   */
+  static final int LINEAR_SPACE_THRESHOLD = 10_000;
+
   /** The equalizer. */
   private final Equalizer<T> equalizer;
 
@@ -55,11 +61,21 @@ public class MyersDiff<T> implements DiffAlgorithm<T> {
    * {@inheritDoc}
    *
    * Return empty diff if get the error while procession the difference.
+   * <p>
+   * Large inputs are diffed with the linear space variant of the algorithm.
    */
   @Override
   public Patch<T> diff(final List<T> original, final List<T> revised) {
     checkArgument(original != null, "original list must not be null");
     checkArgument(revised != null, "revised list must not be null");
+    if ((long) original.size() + revised.size() > LINEAR_SPACE_THRESHOLD) {
+      return new LinearSpaceMyersDiff<T>().diff(original, revised);
+    }
+    return classicDiff(original, revised);
+  }
+
+  // diff keeping the whole explored path
+  Patch<T> classicDiff(final List<T> original, final List<T> revised) {
     PathNode path;
     try {
       path = buildPath(original, revised);
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles getters and fields to {@link MethodHandle}s of type {@code (Object)Object}, access checks are performed once
+ * when the handle is created instead of on each read.
+ * <p>
+ * Handles are cached per declaring class in a {@link ClassValue} so that they go away with their class.
+ */
+final class Accessors {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType ACCESSOR_TYPE = methodType(Object.class, Object.class);
+
+  private static final ClassValue<Map<Member, MethodHandle>> HANDLES = new ClassValue<Map<Member, MethodHandle>>() {
+    @Override
+    protected Map<Member, MethodHandle> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  /**
+   * Returns the value of the given getter called on the given target.
+   *
+   * @param getter an accessible getter
+   * @param target the object to call the getter on
+   * @return the getter value
+   * @throws IllegalAccessException if the getter is not accessible
+   * @throws InvocationTargetException if the getter throws an exception
+   */
+  static Object invokeGetter(Method getter, Object target) throws IllegalAccessException, InvocationTargetException {
+    MethodHandle handle = HANDLES.get(getter.getDeclaringClass()).get(getter);
+    if (handle == null) {
+      handle = LOOKUP.unreflect(getter).asType(ACCESSOR_TYPE);
+      HANDLES.get(getter.getDeclaringClass()).put(getter, handle);
+    }
+    return invoke(handle, target);
+  }
+
+  /**
+   * Returns the value of the given field in the given target.
+   *
+   * @param field an accessible field
+   * @param target the object to read the field from
+   * @return the field value
+   * @throws IllegalAccessException if the field is not accessible
+   */
+  static Object readField(Field field, Object target) throws IllegalAccessException {
+    MethodHandle handle = HANDLES.get(field.getDeclaringClass()).get(field);
+    if (handle == null) {
+      handle = LOOKUP.unreflectGetter(field);
+      // like Field.get, the target is ignored for static fields
+      if (isStatic(field.getModifiers())) handle = dropArguments(handle, 0, Object.class);
+      handle = handle.asType(ACCESSOR_TYPE);
+      HANDLES.get(field.getDeclaringClass()).put(field, handle);
+    }
+    try {
+      return handle.invokeExact(target);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      // reading a field does not throw checked exceptions
+      throw new IllegalStateException(t);
+    }
+  }
+
+  private static Object invoke(MethodHandle handle, Object target) throws InvocationTargetException {
+    try {
+      return handle.invokeExact(target);
+    } catch (Throwable t) {
+      // mimic Method.invoke
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  private Accessors() {}
+}
@@ -26,7 +26,7 @@ import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
 
-import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.configuration.ConfigurationScope;
 
 /**
  * Utility methods for fields access.
@@ -48,7 +48,7 @@ public enum FieldSupport {
 
   private static final String SEPARATOR = ".";
 
-  private boolean allowUsingPrivateFields;
+  private volatile boolean allowUsingPrivateFields;
 
   /**
    * Returns the instance dedicated to extraction of fields.
@@ -77,9 +77,16 @@ public enum FieldSupport {
     this.allowUsingPrivateFields = allowUsingPrivateFields;
   }
 
-  @VisibleForTesting
+  /**
+   * Returns whether the use of private fields is allowed, for {@link #EXTRACTION} and {@link #COMPARISON} the setting of
+   * the {@link ConfigurationScope} applying to the current thread takes precedence.
+   *
+   * @return whether the use of private fields is allowed.
+   */
   public boolean isAllowedToUsePrivateFields() {
-    return allowUsingPrivateFields;
+    ConfigurationScope scope = this == EXTRACTION_OF_PUBLIC_FIELD_ONLY ? null : ConfigurationScope.current();
+    if (scope == null) return allowUsingPrivateFields;
+    return this == COMPARISON ? scope.comparingPrivateFieldsEnabled() : scope.extractingPrivateFieldsEnabled();
   }
 
   /**
@@ -203,7 +210,7 @@ public enum FieldSupport {
   @SuppressWarnings("unchecked")
   private <T> T readSimpleField(String fieldName, Class<T> clazz, Object target) {
     try {
-      Object fieldValue = readField(target, fieldName, allowUsingPrivateFields);
+      Object fieldValue = readField(target, fieldName, isAllowedToUsePrivateFields());
       if (clazz.isPrimitive()) {
         switch (clazz.getSimpleName()) {
         case BYTE:
@@ -248,7 +255,7 @@ public enum FieldSupport {
   }
 
   public boolean isAllowedToRead(Field field) {
-    if (allowUsingPrivateFields) return true;
+    if (isAllowedToUsePrivateFields()) return true;
     // only read public field
     return isPublic(field.getModifiers());
   }
@@ -16,6 +16,9 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -29,6 +32,15 @@ import java.lang.reflect.Modifier;
  */
 public class FieldUtils {
 
+  // fields found (or not) per class and field name, ClassValue lets the cached entries be garbage collected with their
+  // class.
+  private static final ClassValue<Map<String, Optional<Field>>> FIELDS = new ClassValue<Map<String, Optional<Field>>>() {
+    @Override
+    protected Map<String, Optional<Field>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   /**
    * Gets an accessible <code>Field</code> by name breaking scope if requested. Superclasses/interfaces will be
    * considered.
@@ -44,6 +56,28 @@ public class FieldUtils {
   static Field getField(final Class<?> cls, String fieldName, boolean forceAccess) throws IllegalAccessException {
     checkArgument(cls != null, "The class must not be null");
     checkArgument(fieldName != null, "The field name must not be null");
+    Field field = lookupField(cls, fieldName);
+    if (field != null && !Modifier.isPublic(field.getModifiers())) {
+      if (forceAccess) {
+        field.setAccessible(true);
+      } else {
+        throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
+      }
+    }
+    return field;
+  }
+
+  private static Field lookupField(Class<?> cls, String fieldName) {
+    Map<String, Optional<Field>> fields = FIELDS.get(cls);
+    Optional<Field> field = fields.get(fieldName);
+    if (field == null) {
+      field = Optional.ofNullable(findField(cls, fieldName));
+      fields.put(fieldName, field);
+    }
+    return field.orElse(null);
+  }
+
+  private static Field findField(final Class<?> cls, String fieldName) {
     // Sun Java 1.3 has a bugged implementation of getField hence we write the
     // code ourselves
 
@@ -60,16 +94,8 @@ public class FieldUtils {
     // check up the superclass hierarchy
     for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
       try {
-        Field field = acls.getDeclaredField(fieldName);
         // getDeclaredField checks for non-public scopes as well and it returns accurate results
-        if (!Modifier.isPublic(field.getModifiers())) {
-          if (forceAccess) {
-            field.setAccessible(true);
-          } else {
-            throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
-          }
-        }
-        return field;
+        return acls.getDeclaredField(fieldName);
       } catch (NoSuchFieldException ex) { // NOPMD
         // ignore
       }
@@ -121,7 +147,7 @@ public class FieldUtils {
     } else {
       MemberUtils.setAccessibleWorkaround(field);
     }
-    return field.get(target);
+    return Accessors.readField(field, target);
   }
 
   /**
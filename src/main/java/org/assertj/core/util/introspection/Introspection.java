@@ -21,8 +21,10 @@ import static org.assertj.core.util.Strings.quote;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.configuration.ConfigurationScope;
 
 /**
  * Utility methods related to <a
@@ -32,7 +34,12 @@ import org.assertj.core.util.VisibleForTesting;
  */
 public final class Introspection {
 
-  private static boolean bareNamePropertyMethods = true;
+  private static volatile boolean bareNamePropertyMethods = true;
+
+  // resolved getters (hits and misses) per class and property name, one cache per bare name property methods mode.
+  // ClassValue lets the cached entries be garbage collected with their class.
+  private static final ClassValue<Map<String, GetterLookup>> GETTERS = new GetterLookups();
+  private static final ClassValue<Map<String, GetterLookup>> GETTERS_WITHOUT_BARE_NAME = new GetterLookups();
 
   /**
    * Returns the getter {@link Method} for a property matching the given name in the given object.
@@ -48,50 +55,71 @@ public final class Introspection {
   public static Method getPropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     checkNotNull(target);
-    Method getter;
+    GetterLookup getterLookup = lookupGetter(propertyName, target.getClass());
+    if (getterLookup.getter == null) throw new IntrospectionError(getterLookup.errorMessage, getterLookup.error);
+    return getterLookup.getter;
+  }
+
+  private static GetterLookup lookupGetter(String propertyName, Class<?> clazz) {
+    // read once so that the cache and the resolution use the same mode
+    boolean bareNamePropertyMethods = canIntrospectExtractBareNamePropertyMethods();
+    Map<String, GetterLookup> getters = (bareNamePropertyMethods ? GETTERS : GETTERS_WITHOUT_BARE_NAME).get(clazz);
+    GetterLookup getterLookup = getters.get(propertyName);
+    if (getterLookup != null) return getterLookup;
+    getterLookup = resolveGetter(propertyName, clazz, bareNamePropertyMethods);
+    getters.put(propertyName, getterLookup);
+    return getterLookup;
+  }
+
+  private static GetterLookup resolveGetter(String propertyName, Class<?> clazz, boolean bareNamePropertyMethods) {
+    Method getter = findGetter(propertyName, clazz, bareNamePropertyMethods);
     try {
-      getter = findGetter(propertyName, target);
-      if (Modifier.isPublic(getter.getModifiers())) {
-        // force access for static class with public getter
-        getter.setAccessible(true);
-      }
-      getter.invoke(target);
+      if (getter == null) throw new NoSuchMethodException(propertyName);
+      // the getter can only be called if it is public
+      if (!isPublic(getter.getModifiers())) throw new IllegalAccessException(getter.toString());
+      // force access for static class with public getter
+      getter.setAccessible(true);
     } catch (Exception t) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage(propertyName, target), t);
+      return new GetterLookup(null, propertyNotFoundErrorMessage(propertyName, clazz, getter), t);
     }
-    return getter;
+    return new GetterLookup(getter, null, null);
   }
 
   public static void setExtractBareNamePropertyMethods(boolean barenamePropertyMethods) {
     bareNamePropertyMethods = barenamePropertyMethods;
   }
 
-  @VisibleForTesting
+  /**
+   * Returns whether bare-named property methods like {@code String name()} are considered, the setting of the
+   * {@link ConfigurationScope} applying to the current thread if any.
+   *
+   * @return whether bare-named property methods are considered.
+   */
   public static boolean canIntrospectExtractBareNamePropertyMethods() {
-    return bareNamePropertyMethods;
+    ConfigurationScope scope = ConfigurationScope.current();
+    return scope == null ? bareNamePropertyMethods : scope.bareNamePropertyExtractionEnabled();
   }
 
-  private static String propertyNotFoundErrorMessage(String propertyName, Object target) {
-    String targetTypeName = target.getClass().getName();
+  private static String propertyNotFoundErrorMessage(String propertyName, Class<?> clazz, Method getter) {
+    String targetTypeName = clazz.getName();
     String property = quote(propertyName);
-    Method getter = findGetter(propertyName, target);
     if (getter == null) return format("No getter for property %s in %s", property, targetTypeName);
     if (!isPublic(getter.getModifiers())) return format("No public getter for property %s in %s", property, targetTypeName);
     return format("Unable to find property %s in %s", property, targetTypeName);
   }
 
-  private static Method findGetter(String propertyName, Object target) {
+  private static Method findGetter(String propertyName, Class<?> clazz, boolean bareNamePropertyMethods) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
-    Method getter = findMethod("get" + capitalized, target);
+    Method getter = findMethod("get" + capitalized, clazz);
     if (isValidGetter(getter)) return getter;
     if (bareNamePropertyMethods) {
       // try to find bare name property
-      getter = findMethod(propertyName, target);
+      getter = findMethod(propertyName, clazz);
       if (isValidGetter(getter)) return getter;
     }
     // try to find isProperty for boolean properties
-    Method isAccessor = findMethod("is" + capitalized, target);
+    Method isAccessor = findMethod("is" + capitalized, clazz);
     return isValidGetter(isAccessor) ? isAccessor : null;
   }
 
@@ -99,8 +127,7 @@ public final class Introspection {
     return method != null && !Modifier.isStatic(method.getModifiers());
   }
 
-  private static Method findMethod(String name, Object target) {
-    Class<?> clazz = target.getClass();
+  private static Method findMethod(String name, Class<?> clazz) {
     // try public methods only
     try {
       return clazz.getMethod(name);
@@ -115,5 +142,24 @@ public final class Introspection {
     return null;
   }
 
+  private static final class GetterLookups extends ClassValue<Map<String, GetterLookup>> {
+    @Override
+    protected Map<String, GetterLookup> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  }
+
+  private static final class GetterLookup {
+    private final Method getter;
+    private final String errorMessage;
+    private final Exception error;
+
+    private GetterLookup(Method getter, String errorMessage, Exception error) {
+      this.getter = getter;
+      this.errorMessage = errorMessage;
+      this.error = error;
+    }
+  }
+
   private Introspection() {}
 }
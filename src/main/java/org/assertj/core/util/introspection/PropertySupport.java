@@ -149,7 +149,7 @@ public class PropertySupport {
   public <T> T propertyValue(String propertyName, Class<T> clazz, Object target) {
     Method getter = getPropertyGetter(propertyName, target);
     try {
-      return (T) getter.invoke(target);
+      return (T) Accessors.invokeGetter(getter, target);
     } catch (ClassCastException e) {
       String msg = format("Unable to obtain the value of the property <'%s'> from <%s> - wrong property type specified <%s>",
                           propertyName, target, clazz);
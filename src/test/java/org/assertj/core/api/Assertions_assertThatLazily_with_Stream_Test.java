@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsNull;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class Assertions_assertThatLazily_with_Stream_Test {
+
+  private final AtomicInteger consumedElements = new AtomicInteger();
+  private final Stream<Integer> infiniteStream = Stream.iterate(1, i -> i + 1).peek(i -> consumedElements.incrementAndGet());
+
+  @Test
+  public void should_create_Assert() {
+    assertThat(assertThatLazily(Stream.of(1, 2))).isInstanceOf(LazyStreamAssert.class);
+  }
+
+  @Test
+  public void anyMatch_should_stop_at_first_matching_element() {
+    assertThatLazily(infiniteStream).anyMatch(i -> i == 5);
+    assertThat(consumedElements).hasValue(5);
+  }
+
+  @Test
+  public void anyMatch_should_fail_if_no_element_matches() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(Stream.of(1, 2, 3)).anyMatch(i -> i > 3))
+                                                   .withMessageContaining("[1, 2, 3]");
+  }
+
+  @Test
+  public void noneMatch_should_fail_at_first_matching_element() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(infiniteStream).noneMatch(i -> i == 3))
+                                                   .withMessageContaining("[1, 2, 3]");
+    assertThat(consumedElements).hasValue(3);
+  }
+
+  @Test
+  public void allMatch_should_fail_at_first_element_not_matching() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(infiniteStream).allMatch(i -> i < 1000))
+                                                   .withMessageContaining("(first 10 of 1000 consumed elements)");
+    assertThat(consumedElements).hasValue(1000);
+  }
+
+  @Test
+  public void allMatch_should_pass_if_all_elements_match() {
+    assertThatLazily(IntStream.range(0, 100_000).boxed()).allMatch(i -> i >= 0);
+  }
+
+  @Test
+  public void contains_should_stop_once_all_values_are_found() {
+    assertThatLazily(infiniteStream).contains(7, 3);
+    assertThat(consumedElements).hasValue(7);
+  }
+
+  @Test
+  public void contains_should_fail_if_values_are_not_found() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(Stream.of("Luke", "Leia")).contains("Yoda", "Leia"))
+                                                   .withMessageContaining("[\"Yoda\"]");
+  }
+
+  @Test
+  public void contains_should_throw_error_if_values_are_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertThatLazily(infiniteStream).contains((Integer[]) null))
+                                    .withMessage(valuesToLookForIsNull());
+  }
+
+  @Test
+  public void doesNotContain_should_fail_at_first_forbidden_value() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(infiniteStream).doesNotContain(0, 4))
+                                                   .withMessageContaining("[4]");
+    assertThat(consumedElements).hasValue(4);
+  }
+
+  @Test
+  public void startsWith_should_work_with_infinite_streams() {
+    assertThatLazily(infiniteStream).startsWith(1, 2, 3);
+    assertThat(consumedElements).hasValue(3);
+  }
+
+  @Test
+  public void startsWith_should_fail_if_sequence_is_bigger_than_actual() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(Stream.of(1, 2)).startsWith(1, 2, 3));
+  }
+
+  @Test
+  public void startsWith_should_fail_if_sequence_is_empty_and_actual_is_not() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(Stream.of(1, 2)).startsWith());
+  }
+
+  @Test
+  public void hasSizeGreaterThan_should_stop_once_boundary_is_exceeded() {
+    assertThatLazily(infiniteStream).hasSizeGreaterThan(1000);
+    assertThat(consumedElements).hasValue(1001);
+  }
+
+  @Test
+  public void hasSize_should_fail_without_consuming_an_infinite_stream() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(infiniteStream).hasSize(10));
+    assertThat(consumedElements).hasValue(11);
+  }
+
+  @Test
+  public void hasSize_should_not_report_the_consumed_elements_count_as_the_size_of_a_longer_stream() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(Stream.of(1, 2, 3, 4, 5)).hasSize(2))
+                                                   .withMessage(format("%nExpected size:<2> but had more than <2> elements in:%n"
+                                                                       + "<[1, 2, 3]>"));
+  }
+
+  @Test
+  public void hasSize_should_report_the_size_of_a_shorter_stream() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(Stream.of(1, 2)).hasSize(3))
+                                                   .withMessage(format("%nExpected size:<3> but was:<2> in:%n<[1, 2]>"));
+  }
+
+  @Test
+  public void hasSize_should_pass_if_stream_has_the_expected_size() {
+    assertThatLazily(Stream.of(1, 2, 3)).hasSize(3);
+  }
+
+  @Test
+  public void hasSizeLessThan_should_fail_without_consuming_an_infinite_stream() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(infiniteStream).hasSizeLessThan(10));
+    assertThat(consumedElements).hasValue(10);
+  }
+
+  @Test
+  public void isEmpty_and_isNotEmpty_should_consume_at_most_one_element() {
+    assertThatLazily(infiniteStream).isNotEmpty();
+    assertThatLazily(Stream.empty()).isEmpty();
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily(Stream.iterate(1, i -> i + 1)).isEmpty());
+    assertThat(consumedElements).hasValue(1);
+  }
+
+  @Test
+  public void should_fail_if_stream_content_is_checked_twice() {
+    // GIVEN
+    LazyStreamAssert<Integer> streamAssert = assertThatLazily(infiniteStream).anyMatch(i -> i == 1);
+    // WHEN/THEN
+    assertThatIllegalStateException().isThrownBy(() -> streamAssert.startsWith(1));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThatLazily((Stream<Integer>) null).isNotEmpty())
+                                                   .withMessage(actualIsNull());
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link IsoDateParser#parse(String)}</code>.
+ */
+public class IsoDateParser_parse_Test {
+
+  private static final String[] DEFAULT_PATTERNS = { "yyyy-MM-dd'T'HH:mm:ss.SSSX", "yyyy-MM-dd'T'HH:mm:ss.SSS",
+      "yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd'T'HH:mm:ssX", "yyyy-MM-dd'T'HH:mm:ss", "yyyy-MM-dd" };
+
+  private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+  @Test
+  public void should_parse_default_formats() {
+    // GIVEN
+    IsoDateParser parser = new IsoDateParser(PARIS, 10);
+    // WHEN/THEN
+    assertThat(parser.parse("2003-04-26")).isEqualTo(legacyParse("2003-04-26", PARIS));
+    assertThat(parser.parse("2003-04-26T13:01:02")).isEqualTo(legacyParse("2003-04-26T13:01:02", PARIS));
+    assertThat(parser.parse("2003-04-26T13:01:02Z")).isEqualTo(legacyParse("2003-04-26T13:01:02Z", PARIS));
+    assertThat(parser.parse("2003-04-26T13:01:02-05")).isEqualTo(legacyParse("2003-04-26T13:01:02-05", PARIS));
+    assertThat(parser.parse("2003-04-26T13:01:02.999")).isEqualTo(legacyParse("2003-04-26T13:01:02.999", PARIS));
+    assertThat(parser.parse("2003-04-26 13:01:02.999")).isEqualTo(legacyParse("2003-04-26 13:01:02.999", PARIS));
+    assertThat(parser.parse("2003-04-26T13:01:02.999+01")).isEqualTo(legacyParse("2003-04-26T13:01:02.999+01", PARIS));
+  }
+
+  @Test
+  public void should_not_parse_strings_the_legacy_formats_may_parse_differently() {
+    // GIVEN
+    IsoDateParser parser = new IsoDateParser(PARIS, 10);
+    // WHEN/THEN
+    assertThat(parser.parse("2003-04-26T13:01:02+01:30")).as("minutes of time zone").isNull();
+    assertThat(parser.parse("2003-04-26 13:01:02")).as("timestamp without ms").isNull();
+    assertThat(parser.parse("2003-4-26")).as("single digit month").isNull();
+    assertThat(parser.parse("1500-04-26")).as("julian calendar").isNull();
+    assertThat(parser.parse("2019-03-31T02:30:00")).as("daylight saving time gap").isNull();
+    assertThat(parser.parse("2019-10-27T02:30:00")).as("daylight saving time overlap").isNull();
+    assertThat(parser.parse("2003-02-30")).as("invalid date").isNull();
+  }
+
+  @Test
+  public void should_return_a_new_date_for_cached_strings() {
+    // GIVEN
+    IsoDateParser parser = new IsoDateParser(PARIS, 10);
+    Date date = parser.parse("2003-04-26");
+    date.setTime(0);
+    // WHEN
+    Date cachedDate = parser.parse("2003-04-26");
+    // THEN
+    assertThat(cachedDate).isEqualTo(legacyParse("2003-04-26", PARIS));
+    assertThat(parser.cacheSize()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_bound_the_cache_size() {
+    // GIVEN
+    IsoDateParser parser = new IsoDateParser(PARIS, 2);
+    // WHEN
+    parser.parse("2003-04-26");
+    parser.parse("2003-04-27");
+    parser.parse("2003-04-28");
+    // THEN
+    assertThat(parser.cacheSize()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_parse_like_the_legacy_strict_date_formats() {
+    Random random = new Random(42);
+    for (String zone : new String[] { "UTC", "Europe/Paris", "America/Sao_Paulo", "Australia/Lord_Howe" }) {
+      ZoneId zoneId = ZoneId.of(zone);
+      IsoDateParser parser = new IsoDateParser(zoneId, 0);
+      for (int run = 0; run < 5000; run++) {
+        // GIVEN
+        String dateAsString = randomDateString(random);
+        // WHEN
+        Date date = parser.parse(dateAsString);
+        // THEN
+        if (date != null) assertThat(date).as("%s in %s", dateAsString, zone).isEqualTo(legacyParse(dateAsString, zoneId));
+      }
+    }
+  }
+
+  private static Date legacyParse(String dateAsString, ZoneId zoneId) {
+    for (String pattern : DEFAULT_PATTERNS) {
+      DateFormat dateFormat = new SimpleDateFormat(pattern);
+      dateFormat.setLenient(false);
+      dateFormat.setTimeZone(TimeZone.getTimeZone(zoneId));
+      try {
+        return dateFormat.parse(dateAsString);
+      } catch (ParseException e) {
+        // try next format
+      }
+    }
+    return null;
+  }
+
+  private static String randomDateString(Random random) {
+    StringBuilder date = new StringBuilder(String.format("%04d-%02d-%02d", 1500 + random.nextInt(600),
+                                                         1 + random.nextInt(13), 1 + random.nextInt(31)));
+    if (random.nextInt(5) == 0) return date.toString();
+    date.append(random.nextBoolean() ? 'T' : ' ')
+        .append(String.format("%02d:%02d:%02d", random.nextInt(25), random.nextInt(61), random.nextInt(61)));
+    if (random.nextBoolean()) date.append(String.format(".%03d", random.nextInt(1000)));
+    switch (random.nextInt(4)) {
+    case 0:
+      date.append('Z');
+      break;
+    case 1:
+      date.append(String.format("%s%02d", random.nextBoolean() ? "+" : "-", random.nextInt(20)));
+      break;
+    default:
+      break;
+    }
+    return date.toString();
+  }
+}
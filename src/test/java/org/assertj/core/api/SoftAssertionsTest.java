@@ -186,6 +186,19 @@ public class SoftAssertionsTest extends BaseAssertionsTest {
     assertThat(softly.wasSuccess()).isFalse();
   }
 
+  @Test
+  public void should_collect_errors_after_an_assertion_has_thrown_an_unexpected_exception() {
+    // GIVEN
+    assertThatThrownBy(() -> softly.assertThat("Frodo").satisfies(name -> {
+      throw new IllegalStateException("boom");
+    })).isInstanceOf(IllegalStateException.class);
+    // WHEN
+    softly.assertThat(true).isFalse(); // isFalse() calls isEqualTo(false)
+    // THEN
+    assertThat(softly.errorsCollected()).hasSize(1);
+    assertThat(softly.wasSuccess()).isFalse();
+  }
+
   @SuppressWarnings("unchecked")
   @Test
   public void should_be_able_to_catch_exceptions_thrown_by_map_assertions() {
@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.api.iterable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.ComparatorOrder.TOTAL_ORDER;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.AbstractIterableAssert;
+import org.assertj.core.api.ComparatorOrder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link AbstractIterableAssert#usingElementComparator(Comparator, ComparatorOrder)}</code>.
+ */
+public class IterableAssert_usingElementComparator_with_ComparatorOrder_Test {
+
+  private final AtomicInteger comparisons = new AtomicInteger();
+  private final Comparator<Integer> countingComparator = (i1, i2) -> {
+    comparisons.incrementAndGet();
+    return Integer.compare(i1 / 10, i2 / 10);
+  };
+
+  @Test
+  public void should_not_compare_all_elements_to_each_other_with_a_total_order_comparator() {
+    // GIVEN
+    List<Integer> actual = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+    List<Integer> expected = newArrayList(actual);
+    // WHEN
+    assertThat(actual).usingElementComparator(countingComparator, TOTAL_ORDER)
+                      .containsOnlyElementsOf(expected)
+                      .containsExactlyInAnyOrderElementsOf(expected)
+                      .isSubsetOf(expected);
+    // THEN
+    // comparing each element to all the others takes about 50_000_000 comparisons per assertion
+    assertThat(comparisons.get()).isLessThan(5_000_000);
+  }
+
+  @Test
+  public void should_report_missing_and_unexpected_elements_in_their_original_order() {
+    // GIVEN
+    List<Integer> actual = newArrayList(35, 10, 41, 27, 68, 12);
+    // WHEN/THEN
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(actual).usingElementComparator(countingComparator,
+                                                                                                               TOTAL_ORDER)
+                                                                                       .containsExactlyInAnyOrder(19, 77, 30,
+                                                                                                                  20, 51, 15))
+                                                   .withMessageContaining(String.format("elements not found:%n  <[77, 51]>"))
+                                                   .withMessageContaining(String.format("elements not expected:%n  <[41, 68]>"));
+  }
+
+  @Test
+  public void should_fail_if_comparator_order_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertThat(newArrayList(1)).usingElementComparator(countingComparator,
+                                                                                                         null))
+                                    .withMessage("The comparator order should not be null");
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.recursive.comparison.FieldPath.fieldPath;
+import static org.assertj.core.api.recursive.comparison.FieldPath.rootPath;
+import static org.assertj.core.util.Lists.list;
+
+import org.junit.jupiter.api.Test;
+
+public class FieldPath_Test {
+
+  @Test
+  public void root_path_should_be_empty() {
+    // WHEN
+    FieldPath root = rootPath();
+    // THEN
+    assertThat(root.isRoot()).isTrue();
+    assertThat(root.getPath()).isEmpty();
+    assertThat(root.getConcatenatedPath()).isEmpty();
+  }
+
+  @Test
+  public void should_build_path_from_parent_paths() {
+    // WHEN
+    FieldPath path = rootPath().child("name").child("first");
+    // THEN
+    assertThat(path.isRoot()).isFalse();
+    assertThat(path.getPath()).containsExactly("name", "first");
+    assertThat(path.getConcatenatedPath()).isEqualTo("name.first");
+  }
+
+  @Test
+  public void should_build_path_from_list() {
+    // WHEN
+    FieldPath path = fieldPath(list("name", "first"));
+    // THEN
+    assertThat(path.getPath()).containsExactly("name", "first");
+    assertThat(path.getConcatenatedPath()).isEqualTo("name.first");
+  }
+
+  @Test
+  public void should_intern_child_paths() {
+    // GIVEN
+    FieldPath root = rootPath();
+    // WHEN
+    FieldPath path = root.child("name").child("first");
+    // THEN
+    assertThat(root.child("name").child("first")).isSameAs(path);
+    assertThat(root.child("name").child("last")).isNotSameAs(path);
+  }
+
+}
@@ -14,6 +14,7 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.fielLocation;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
@@ -56,6 +57,7 @@ public class RecursiveComparisonAssert_fluent_API_Test {
     assertThat(recursiveComparisonConfiguration.getIgnoredOverriddenEqualsForTypes()).isEmpty();
     assertThat(recursiveComparisonConfiguration.getIgnoredOverriddenEqualsRegexes()).isEmpty();
     assertThat(recursiveComparisonConfiguration.hasCustomComparators()).isTrue();
+    assertThat(recursiveComparisonConfiguration.getParallelism()).isEqualTo(1);
   }
 
   @Test
@@ -70,6 +72,35 @@ public class RecursiveComparisonAssert_fluent_API_Test {
     assertThat(configuration.isInStrictTypeCheckingMode()).isTrue();
   }
 
+  @Test
+  public void should_allow_to_compare_with_a_given_parallelism() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = assertThat(ACTUAL).usingRecursiveComparison()
+                                                                       .withParallelism(4)
+                                                                       .getRecursiveComparisonConfiguration();
+    // THEN
+    assertThat(configuration.getParallelism()).isEqualTo(4);
+  }
+
+  @Test
+  public void should_allow_to_compare_in_parallel() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = assertThat(ACTUAL).usingRecursiveComparison()
+                                                                       .inParallel()
+                                                                       .getRecursiveComparisonConfiguration();
+    // THEN
+    assertThat(configuration.getParallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Test
+  public void should_fail_if_parallelism_is_not_strictly_positive() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> assertThat(ACTUAL).usingRecursiveComparison().withParallelism(0));
+    // THEN
+    assertThat(throwable).isInstanceOf(IllegalArgumentException.class)
+                         .hasMessage("The parallelism must be strictly positive but was 0");
+  }
+
   @Test
   public void should_allow_to_use_its_own_RecursiveComparisonConfiguration() {
     // GIVEN
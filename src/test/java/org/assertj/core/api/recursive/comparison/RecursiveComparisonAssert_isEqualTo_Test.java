@@ -229,6 +229,19 @@ public class RecursiveComparisonAssert_isEqualTo_Test extends RecursiveCompariso
                       .isEqualTo(expected);
   }
 
+  @Test
+  public void should_be_able_to_compare_objects_with_cycles_and_recursive_hashCode() {
+    // GIVEN
+    RecursiveHashCode actual = new RecursiveHashCode("John");
+    RecursiveHashCode expected = new RecursiveHashCode("John");
+    // neighbour - hashCode would never terminate if the comparison called it
+    expected.neighbour = actual;
+    actual.neighbour = expected;
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+  }
+
   @Test
   public void should_be_able_to_compare_objects_with_cycles_in_ordered_collection() {
     // GIVEN
@@ -335,4 +348,18 @@ public class RecursiveComparisonAssert_isEqualTo_Test extends RecursiveCompariso
     verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, missingFieldDifference);
   }
 
+  static class RecursiveHashCode {
+    String name;
+    RecursiveHashCode neighbour;
+
+    RecursiveHashCode(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * name.hashCode() + neighbour.hashCode();
+    }
+  }
+
 }
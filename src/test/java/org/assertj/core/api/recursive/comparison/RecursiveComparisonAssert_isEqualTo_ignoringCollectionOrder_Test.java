@@ -12,16 +12,22 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.internal.objects.data.FriendlyPerson.friend;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Lists.list;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.RecursiveComparisonAssert_isEqualTo_BaseTest;
+import org.assertj.core.internal.CaseInsensitiveStringComparator;
 import org.assertj.core.internal.objects.data.FriendlyPerson;
+import org.assertj.core.presentation.StandardRepresentation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -159,7 +165,8 @@ public class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
     compareRecursivelyFailsAsExpected(actual, expected);
 
     // THEN
-    ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends);
+    ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends,
+                                                  unmatchedElements(actualFriend, expectedFriend));
     verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, friendsDifference);
   }
 
@@ -230,8 +237,181 @@ public class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
     compareRecursivelyFailsAsExpected(actual, expected);
 
     // THEN
-    ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends);
+    ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends,
+                                                  unmatchedElements(actualFriend, expectedFriend));
     verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, friendsDifference);
   }
 
+  @Test
+  public void should_pass_when_collection_elements_only_match_with_a_field_comparator() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    actual.friends.add(friend("dr. john watson"));
+    actual.friends.add(friend("molly hooper"));
+    FriendlyPerson expected = friend("Sherlock Holmes");
+    expected.friends.add(friend("Molly Hooper"));
+    expected.friends.add(friend("Dr. John Watson"));
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .withComparatorForFields(CaseInsensitiveStringComparator.instance, "friends.name")
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  public void should_pass_when_collection_elements_only_match_with_a_type_comparator() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    actual.friends.add(friend("dr. john watson"));
+    actual.friends.add(friend("molly hooper"));
+    FriendlyPerson expected = friend("SHERLOCK HOLMES");
+    expected.friends.add(friend("Molly Hooper"));
+    expected.friends.add(friend("Dr. John Watson"));
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .withComparatorForType(CaseInsensitiveStringComparator.instance, String.class)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  public void should_pass_when_collection_elements_only_differ_in_ignored_fields() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    actual.friends.add(friend("Dr. John Watson"));
+    actual.friends.add(friend("Molly Hooper"));
+    FriendlyPerson expected = friend("Sherlock Holmes");
+    expected.friends.add(friend("Mrs. Hudson"));
+    expected.friends.add(friend("D.I. Greg Lestrade"));
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .ignoringFields("friends.name")
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  public void should_report_unmatched_collection_elements_in_their_original_order() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    FriendlyPerson molly = friend("Molly Hooper");
+    FriendlyPerson watson = friend("Dr. John Watson");
+    FriendlyPerson hudson = friend("Mrs. Hudson");
+    FriendlyPerson lestrade = friend("D.I. Greg Lestrade");
+    actual.friends.add(hudson);
+    actual.friends.add(molly);
+    actual.friends.add(watson);
+    FriendlyPerson expected = friend("Sherlock Holmes");
+    FriendlyPerson expectedMolly = friend("Molly Hooper");
+    FriendlyPerson irene = friend("Irene Adler");
+    expected.friends.add(irene);
+    expected.friends.add(expectedMolly);
+    expected.friends.add(lestrade);
+    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    // WHEN
+    compareRecursivelyFailsAsExpected(actual, expected);
+    // THEN
+    String unmatchedElements = format("The following actual elements could not be matched to any expected elements:%n  %s%n"
+                                      + "The following expected elements were not matched by any actual elements:%n  %s",
+                                      STANDARD_REPRESENTATION.toStringOf(list(hudson, watson)),
+                                      STANDARD_REPRESENTATION.toStringOf(list(irene, lestrade)));
+    ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends, unmatchedElements);
+    verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, friendsDifference);
+  }
+
+  @Test
+  public void should_report_unmatched_elements_up_to_the_maximum_allowed_elements() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    FriendlyPerson expected = friend("Sherlock Holmes");
+    for (int i = 0; i < 3; i++) {
+      actual.friends.add(friend("actual friend " + i));
+      expected.friends.add(friend("expected friend " + i));
+    }
+    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    StandardRepresentation.setMaxElementsForPrinting(2);
+    try {
+      // WHEN
+      compareRecursivelyFailsAsExpected(actual, expected);
+      // THEN
+      String unmatchedElements = format("The following actual elements could not be matched to any expected elements:%n  %s%n"
+                                        + "The following expected elements were not matched by any actual elements:%n  %s",
+                                        STANDARD_REPRESENTATION.toStringOf(actual.friends),
+                                        STANDARD_REPRESENTATION.toStringOf(expected.friends));
+      assertThat(unmatchedElements).contains("...");
+      ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends, unmatchedElements);
+      verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, friendsDifference);
+    } finally {
+      StandardRepresentation.resetDefaults();
+    }
+  }
+
+  @Test
+  public void should_not_read_the_fields_of_identical_collection_elements() {
+    // GIVEN
+    CountingGetterValue value1 = new CountingGetterValue("value1");
+    CountingGetterValue value2 = new CountingGetterValue("value2");
+    CountingGetterValue value3 = new CountingGetterValue("value3");
+    CountingGetterValues actual = new CountingGetterValues(list(value1, value2, value3));
+    CountingGetterValues expected = new CountingGetterValues(list(value3, value1, value2));
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+    assertThat(CountingGetterValue.getterCalls).hasValue(0);
+  }
+
+  @Test
+  public void should_match_unordered_basic_values_whatever_their_internal_state() {
+    // GIVEN
+    String a = new String("a");
+    String b = new String("b");
+    // String caches its hash code in a field, only actual elements have it computed
+    a.hashCode();
+    b.hashCode();
+    WithElements actual = new WithElements(list(a, b));
+    WithElements expected = new WithElements(list(new String("b"), new String("a")));
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  public static class WithElements {
+    public final List<?> elements;
+
+    WithElements(List<?> elements) {
+      this.elements = elements;
+    }
+  }
+
+  static class CountingGetterValues {
+    final List<CountingGetterValue> values;
+
+    CountingGetterValues(List<CountingGetterValue> values) {
+      this.values = values;
+    }
+  }
+
+  static class CountingGetterValue {
+    static final AtomicInteger getterCalls = new AtomicInteger();
+    private final String value;
+
+    CountingGetterValue(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      getterCalls.incrementAndGet();
+      return value;
+    }
+  }
+
+  private static String unmatchedElements(FriendlyPerson actualElement, FriendlyPerson expectedElement) {
+    return format("The following actual elements could not be matched to any expected elements:%n  %s%n"
+                  + "The following expected elements were not matched by any actual elements:%n  %s",
+                  STANDARD_REPRESENTATION.toStringOf(list(actualElement)),
+                  STANDARD_REPRESENTATION.toStringOf(list(expectedElement)));
+  }
+
 }
@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.objects.data.FriendlyPerson.friend;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.assertj.core.api.RecursiveComparisonAssert_isEqualTo_BaseTest;
+import org.assertj.core.internal.objects.data.FriendlyPerson;
+import org.junit.jupiter.api.Test;
+
+public class RecursiveComparisonAssert_isEqualTo_withParallelism_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  @Test
+  public void should_pass_when_comparing_large_object_graphs_in_parallel() {
+    // GIVEN
+    FriendlyPerson actual = sherlockWithFriends(1000);
+    FriendlyPerson expected = sherlockWithFriends(1000);
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .inParallel()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  public void should_pass_when_comparing_objects_with_cycles_in_parallel() {
+    // GIVEN
+    FriendlyPerson actual = sherlockWithFriends(10);
+    FriendlyPerson expected = sherlockWithFriends(10);
+    actual.neighbour = expected;
+    expected.neighbour = actual;
+    actual.friends.add(expected);
+    expected.friends.add(actual);
+    actual.otherFriends.add(actual);
+    expected.otherFriends.add(expected);
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .withParallelism(4)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  public void should_report_the_same_differences_as_a_sequential_comparison() {
+    // GIVEN
+    FriendlyPerson actual = sherlockWithFriends(200);
+    FriendlyPerson expected = sherlockWithFriends(200);
+    expected.friends.get(3).name = "Irene Adler";
+    expected.friends.get(3).home.address.number = 33;
+    expected.friends.get(150).friends.get(0).home.address.number = 150;
+    expected.friends.get(199).otherFriends.iterator().next().name = "Mycroft Holmes";
+    actual.friends.get(42).name = null;
+    RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+    List<ComparisonDifference> sequentialDifferences = calculator.determineDifferences(actual, expected,
+                                                                                       recursiveComparisonConfiguration);
+    recursiveComparisonConfiguration.setParallelism(4);
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = calculator.determineDifferences(actual, expected,
+                                                                                     recursiveComparisonConfiguration);
+    // THEN
+    assertThat(sequentialDifferences).hasSize(5);
+    assertThat(parallelDifferences).containsExactlyElementsOf(sequentialDifferences);
+  }
+
+  @Test
+  public void should_report_differences_found_in_map_values_compared_in_parallel() {
+    // GIVEN
+    WithMap actual = new WithMap();
+    WithMap expected = new WithMap();
+    for (int i = 0; i < 100; i++) {
+      actual.friends.put(i, friend("Friend " + i));
+      expected.friends.put(i, friend("Friend " + i));
+    }
+    expected.friends.get(12).name = "Irene Adler";
+    recursiveComparisonConfiguration.setParallelism(4);
+    // WHEN
+    compareRecursivelyFailsAsExpected(actual, expected);
+    // THEN
+    ComparisonDifference nameDifference = diff("friends.name", "Friend 12", "Irene Adler");
+    verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, nameDifference);
+  }
+
+  @Test
+  public void should_compare_values_shared_by_elements_compared_in_parallel_only_once() {
+    // GIVEN
+    FriendlyPerson actual = sherlockWithFriends(1000);
+    FriendlyPerson expected = sherlockWithFriends(1000);
+    FriendlyPerson actualNeighbour = friend("Mrs. Hudson");
+    FriendlyPerson expectedNeighbour = friend("Mrs. Turner");
+    for (int i = 0; i < 1000; i++) {
+      actual.friends.get(i).neighbour = actualNeighbour;
+      expected.friends.get(i).neighbour = expectedNeighbour;
+    }
+    RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+    recursiveComparisonConfiguration.setParallelism(8);
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = calculator.determineDifferences(actual, expected,
+                                                                                     recursiveComparisonConfiguration);
+    // THEN
+    assertThat(parallelDifferences).hasSize(1);
+    assertThat(parallelDifferences.get(0).getPath()).isEqualTo("friends.neighbour.name");
+  }
+
+  @Test
+  public void should_report_differences_of_values_shared_with_unordered_collection_elements_compared_in_parallel() {
+    // GIVEN
+    FriendlyPerson actual = sherlockWithFriends(1000);
+    FriendlyPerson expected = sherlockWithFriends(1000);
+    FriendlyPerson actualNeighbour = friend("Mrs. Hudson");
+    FriendlyPerson expectedNeighbour = friend("Mrs. Turner");
+    // the other friends have the same fingerprint, they are compared in a trial which fails because of their homes
+    FriendlyPerson actualOtherFriend = friend("Mycroft Holmes");
+    actualOtherFriend.home.address.number = 1;
+    actualOtherFriend.neighbour = actualNeighbour;
+    FriendlyPerson expectedOtherFriend = friend("Mycroft Holmes");
+    expectedOtherFriend.home.address.number = 2;
+    expectedOtherFriend.neighbour = expectedNeighbour;
+    actual.friends.get(999).otherFriends.add(actualOtherFriend);
+    expected.friends.get(999).otherFriends.add(expectedOtherFriend);
+    // compared after the last friend (list elements are compared from the last one) and in another batch
+    actual.friends.get(0).neighbour = actualNeighbour;
+    expected.friends.get(0).neighbour = expectedNeighbour;
+    RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+    List<ComparisonDifference> sequentialDifferences = calculator.determineDifferences(actual, expected,
+                                                                                       recursiveComparisonConfiguration);
+    recursiveComparisonConfiguration.setParallelism(8);
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = calculator.determineDifferences(actual, expected,
+                                                                                     recursiveComparisonConfiguration);
+    // THEN
+    assertThat(sequentialDifferences).extracting(ComparisonDifference::getPath)
+                                     .containsExactly("friends.neighbour.name", "friends.otherFriends");
+    assertThat(parallelDifferences).containsExactlyElementsOf(sequentialDifferences);
+  }
+
+  private static FriendlyPerson sherlockWithFriends(int numberOfFriends) {
+    FriendlyPerson sherlock = friend("Sherlock Holmes");
+    for (int i = 0; i < numberOfFriends; i++) {
+      FriendlyPerson friend = friend("Friend " + i);
+      friend.home.address.number = i;
+      friend.friends.add(friend("Friend of friend " + i));
+      friend.otherFriends.add(friend("Other friend of friend " + i));
+      sherlock.friends.add(friend);
+    }
+    return sherlock;
+  }
+
+  static class WithMap {
+    Map<Integer, FriendlyPerson> friends = new TreeMap<>();
+  }
+
+}
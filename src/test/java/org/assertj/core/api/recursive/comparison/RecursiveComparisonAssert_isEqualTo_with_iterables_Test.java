@@ -17,6 +17,7 @@ import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.recursive.comparison.Author.authorsTreeSet;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
@@ -116,11 +117,11 @@ public class RecursiveComparisonAssert_isEqualTo_with_iterables_Test extends Rec
                      // hashSet diff is at the collection level, not the element as in ordered collection where we can show the
                      // pair of different elements, this is why actual and expected are set and not element values.
                      Arguments.of(pratchettHashSet, newHashSet(none), "group",
-                                  pratchettHashSet, newHashSet(none), null),
+                                  pratchettHashSet, newHashSet(none), unmatchedElements(pratchett, none)),
                      Arguments.of(newHashSet(none), pratchettHashSet, "group",
-                                  newHashSet(none), pratchettHashSet, null),
+                                  newHashSet(none), pratchettHashSet, unmatchedElements(none, pratchett)),
                      Arguments.of(pratchettHashSet, newHashSet(georgeMartin), "group",
-                                  pratchettHashSet, newHashSet(georgeMartin), null),
+                                  pratchettHashSet, newHashSet(georgeMartin), unmatchedElements(pratchett, georgeMartin)),
                      Arguments.of(authorsTreeSet(pratchett, georgeMartin), authorsTreeSet(pratchett), "group",
                                   authorsTreeSet(pratchett, georgeMartin), authorsTreeSet(pratchett),
                                   "actual and expected values are collections of different size, actual size=2 when expected size=1"),
@@ -128,6 +129,13 @@ public class RecursiveComparisonAssert_isEqualTo_with_iterables_Test extends Rec
                      Arguments.of(authorsTreeSet(none), authorsTreeSet(pratchett), "group", null, pratchett, null));
   }
 
+  private static String unmatchedElements(Author actualElement, Author expectedElement) {
+    return format("The following actual elements could not be matched to any expected elements:%n  %s%n"
+                  + "The following expected elements were not matched by any actual elements:%n  %s",
+                  STANDARD_REPRESENTATION.toStringOf(list(actualElement)),
+                  STANDARD_REPRESENTATION.toStringOf(list(expectedElement)));
+  }
+
   @ParameterizedTest(name = "authors {0} / object {1} / path {2} / value 1 {3}/ value 2 {4}")
   @MethodSource("iterableWithNonIterables")
   public void should_fail_when_comparing_iterable_to_non_iterable(Object actualFieldValue, Collection<Author> expectedFieldValue,
@@ -221,6 +221,24 @@ public class RecursiveComparisonConfiguration_multiLineDescription_Test {
     assertThat(multiLineDescription).contains(format("- actual and expected objects and their fields were compared field by field recursively even if they were not of the same type, this allows for example to compare a Person to a PersonDto (call strictTypeChecking(true) to change that behavior).%n"));
   }
 
+  @Test
+  public void should_show_the_parallelism_when_comparing_in_parallel() {
+    // GIVEN
+    recursiveComparisonConfiguration.setParallelism(4);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    assertThat(multiLineDescription).contains(format("- arrays, collections and maps elements were compared in parallel by 4 threads%n"));
+  }
+
+  @Test
+  public void should_not_show_the_parallelism_when_comparing_sequentially() {
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    assertThat(multiLineDescription).doesNotContain("parallel");
+  }
+
   @Test
   public void should_show_a_complete_multiline_description() {
     // GIVEN
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.recursive.comparison.DualValueUtil.dualKeyWithPath;
 import static org.assertj.core.api.recursive.comparison.DualValueUtil.randomPath;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.Date;
@@ -145,6 +146,34 @@ public class RecursiveComparisonConfiguration_shouldIgnoreFields_Test {
 
   }
 
+  @Test
+  public void should_return_non_ignored_field_names_according_to_parent_path() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFields("name", "friend.number");
+    Set<String> fieldNames = newLinkedHashSet("name", "number", "friend");
+    // WHEN
+    Set<String> rootFieldNames = recursiveComparisonConfiguration.getNonIgnoredFieldNames(Object.class, "", fieldNames);
+    Set<String> friendFieldNames = recursiveComparisonConfiguration.getNonIgnoredFieldNames(Object.class, "friend",
+                                                                                             fieldNames);
+    // THEN
+    assertThat(rootFieldNames).containsOnly("number", "friend");
+    assertThat(friendFieldNames).containsOnly("name", "friend");
+  }
+
+  @Test
+  public void should_update_non_ignored_field_names_when_more_fields_are_ignored() {
+    // GIVEN
+    Set<String> fieldNames = newLinkedHashSet("name", "number", "surname");
+    recursiveComparisonConfiguration.ignoreFields("name");
+    Set<String> nonIgnoredFieldNames = recursiveComparisonConfiguration.getNonIgnoredFieldNames(Object.class, "", fieldNames);
+    assertThat(nonIgnoredFieldNames).containsOnly("number", "surname");
+    // WHEN
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes("sur.*");
+    nonIgnoredFieldNames = recursiveComparisonConfiguration.getNonIgnoredFieldNames(Object.class, "", fieldNames);
+    // THEN
+    assertThat(nonIgnoredFieldNames).containsOnly("number");
+  }
+
   static DualValue dualKey(Object key1, Object key2) {
     return new DualValue(randomPath(), key1, key2);
   }
@@ -14,9 +14,12 @@ package org.assertj.core.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+import org.assertj.core.internal.Diff;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.introspection.FieldSupport;
@@ -41,6 +44,8 @@ public class Configuration_apply_Test {
     // maxLengthForSingleLineDescription will be effective.
     assertThat(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(configuration.maxElementsForPrinting());
     assertThat(StandardRepresentation.getMaxLengthForSingleLineDescription()).isEqualTo(configuration.maxLengthForSingleLineDescription());
+    InputStream actualContent = new ByteArrayInputStream("a\nb\nc\nd\ne".getBytes());
+    assertThat(new Diff().diff(actualContent, "a\nB\nc\nD\ne\nF")).hasSize(configuration.maxDeltasForContentDiff());
     boolean removeAssertJRelatedElementsFromStackTrace = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
     assertThat(removeAssertJRelatedElementsFromStackTrace).isEqualTo(configuration.removeAssertJRelatedElementsFromStackTraceEnabled());
     // check lenient is honored by parsing a string that would fail if the DateFormat was not lenient.
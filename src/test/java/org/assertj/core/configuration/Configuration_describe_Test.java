@@ -35,6 +35,7 @@ public class Configuration_describe_Test {
                                              "- additionnal date formats ........................ = [yyyy_MM_dd, yyyy|MM|dd]%n" +
                                              "- maxLengthForSingleLineDescription ............... = 81%n" +
                                              "- maxElementsForPrinting .......................... = 1001%n" +
+                                             "- maxDeltasForContentDiff ......................... = 2%n" +
                                              "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n"));
   }
 
@@ -0,0 +1,217 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+import static org.assertj.core.presentation.BinaryRepresentation.BINARY_REPRESENTATION;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.DateUtil.parse;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.assertj.core.internal.Diff;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.util.introspection.FieldSupport;
+import org.assertj.core.util.introspection.Introspection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Configuration#openScope()}</code>.
+ */
+public class Configuration_openScope_Test {
+
+  @Test
+  public void should_apply_configuration_to_current_thread_only() throws Exception {
+    // GIVEN
+    Configuration configuration = new NonDefaultConfiguration();
+    Settings globalSettings = new Settings();
+    ExecutorService otherThread = Executors.newSingleThreadExecutor();
+    try {
+      otherThread.submit(() -> null).get(); // start the other thread before opening the scope
+      // WHEN
+      try (ConfigurationScope scope = configuration.openScope()) {
+        // THEN
+        assertThat(new Settings()).isEqualToComparingFieldByField(new Settings(configuration));
+        assertThat(otherThread.submit((Callable<Settings>) Settings::new).get()).isEqualToComparingFieldByField(globalSettings);
+      }
+    } finally {
+      otherThread.shutdown();
+    }
+    assertThat(new Settings()).isEqualToComparingFieldByField(globalSettings);
+  }
+
+  @Test
+  public void should_not_apply_configuration_to_threads_started_in_scope() throws Exception {
+    // GIVEN
+    Configuration configuration = new NonDefaultConfiguration();
+    Settings globalSettings = new Settings();
+    ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      try (ConfigurationScope scope = configuration.openScope()) {
+        pool.submit(() -> null).get(); // the pool thread is created in the scope
+        // WHEN
+        Settings poolThreadSettings = pool.submit((Callable<Settings>) Settings::new).get();
+        Throwable unrelatedAssertionError = pool.submit(() -> catchThrowable(() -> assertThat(5).isEqualTo(6))).get();
+        // THEN
+        assertThat(poolThreadSettings).isEqualToComparingFieldByField(globalSettings);
+        assertThat(unrelatedAssertionError).hasMessageContaining("<6>");
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void should_apply_configuration_to_parallel_recursive_comparison_threads() {
+    // GIVEN
+    Configuration configuration = new NonDefaultConfiguration();
+    WithHolders actual = new WithHolders();
+    WithHolders expected = new WithHolders();
+    for (int i = 0; i < 200; i++) {
+      actual.holders.add(new Holder(i == 0 ? "a" : "x"));
+      expected.holders.add(new Holder(i == 0 ? "b" : "x"));
+    }
+    // WHEN
+    AssertionError error;
+    try (ConfigurationScope scope = configuration.openScope()) {
+      // the unmatched values are described by the thread comparing the first holder
+      error = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                           .ignoringCollectionOrderInFields("holders.values")
+                                                           .withParallelism(4)
+                                                           .isEqualTo(expected));
+    }
+    // THEN
+    assertThat(error).hasMessageContaining(BINARY_REPRESENTATION.toStringOf(list("a")));
+  }
+
+  @Test
+  public void should_apply_scope_within_call_only() {
+    // GIVEN
+    ConfigurationScope scope = new NonDefaultConfiguration().openScope();
+    try {
+      // WHEN
+      Representation representation = CompletableFuture.supplyAsync(() -> ConfigurationScope.callWithin(scope,
+                                                                                                        CONFIGURATION_PROVIDER::representation))
+                                                       .join();
+      Representation otherThreadRepresentation = CompletableFuture.supplyAsync(CONFIGURATION_PROVIDER::representation).join();
+      // THEN
+      assertThat(representation).isSameAs(BINARY_REPRESENTATION);
+      assertThat(otherThreadRepresentation).isSameAs(STANDARD_REPRESENTATION);
+    } finally {
+      scope.close();
+    }
+  }
+
+  @Test
+  public void should_reactivate_enclosing_scope_when_closed() {
+    // GIVEN
+    Configuration configuration = new NonDefaultConfiguration();
+    try (ConfigurationScope scope = configuration.openScope()) {
+      // WHEN
+      try (ConfigurationScope nestedScope = Configuration.DEFAULT_CONFIGURATION.openScope()) {
+        assertThat(CONFIGURATION_PROVIDER.configuration()).isSameAs(Configuration.DEFAULT_CONFIGURATION);
+      }
+      // THEN
+      assertThat(CONFIGURATION_PROVIDER.configuration()).isSameAs(configuration);
+      assertThat(CONFIGURATION_PROVIDER.representation()).isSameAs(BINARY_REPRESENTATION);
+    }
+  }
+
+  @Test
+  public void should_not_apply_scope_closed_by_another_thread() throws Exception {
+    // GIVEN
+    ConfigurationScope scope = new NonDefaultConfiguration().openScope();
+    // WHEN
+    CompletableFuture.runAsync(scope::close).get();
+    // THEN
+    assertThat(ConfigurationScope.current()).isNull();
+  }
+
+  @Test
+  public void should_parse_dates_with_the_scope_leniency() {
+    // GIVEN
+    Date date = parse("2001-02-03");
+    Configuration lenientConfiguration = new Configuration() {
+      @Override
+      public boolean lenientDateParsingEnabled() {
+        return true;
+      }
+    };
+    // WHEN/THEN
+    try (ConfigurationScope scope = lenientConfiguration.openScope()) {
+      assertThat(date).isEqualTo("2001-01-34");
+    }
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(date).isEqualTo("2001-01-34"))
+                                                   .withMessageStartingWith("Failed to parse 2001-01-34");
+  }
+
+  public static class WithHolders {
+    public final List<Holder> holders = new ArrayList<>();
+  }
+
+  public static class Holder {
+    public final List<String> values;
+
+    Holder(String value) {
+      this.values = list(value);
+    }
+  }
+
+  private static class Settings {
+    private final Object representation;
+    private final boolean comparingPrivateFields;
+    private final boolean extractingPrivateFields;
+    private final boolean bareNamePropertyExtraction;
+    private final boolean removeAssertJRelatedElementsFromStackTrace;
+    private final int maxElementsForPrinting;
+    private final int maxLengthForSingleLineDescription;
+    private final int maxDeltasForContentDiff;
+
+    // the settings applying to the current thread
+    private Settings() {
+      representation = CONFIGURATION_PROVIDER.representation();
+      comparingPrivateFields = FieldSupport.comparison().isAllowedToUsePrivateFields();
+      extractingPrivateFields = FieldSupport.extraction().isAllowedToUsePrivateFields();
+      bareNamePropertyExtraction = Introspection.canIntrospectExtractBareNamePropertyMethods();
+      removeAssertJRelatedElementsFromStackTrace = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
+      maxElementsForPrinting = StandardRepresentation.getMaxElementsForPrinting();
+      maxLengthForSingleLineDescription = StandardRepresentation.getMaxLengthForSingleLineDescription();
+      maxDeltasForContentDiff = Diff.getMaxDeltasForContentDiff();
+    }
+
+    // the settings of the given configuration
+    private Settings(Configuration configuration) {
+      representation = configuration.representation();
+      comparingPrivateFields = configuration.comparingPrivateFieldsEnabled();
+      extractingPrivateFields = configuration.extractingPrivateFieldsEnabled();
+      bareNamePropertyExtraction = configuration.bareNamePropertyExtractionEnabled();
+      removeAssertJRelatedElementsFromStackTrace = configuration.removeAssertJRelatedElementsFromStackTraceEnabled();
+      maxElementsForPrinting = configuration.maxElementsForPrinting();
+      maxLengthForSingleLineDescription = configuration.maxLengthForSingleLineDescription();
+      maxDeltasForContentDiff = configuration.maxDeltasForContentDiff();
+    }
+  }
+}
@@ -56,6 +56,11 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxLengthForSingleLineDescription() + 1;
   }
 
+  @Override
+  public int maxDeltasForContentDiff() {
+    return 2;
+  }
+
   @Override
   public boolean removeAssertJRelatedElementsFromStackTraceEnabled() {
     return !super.removeAssertJRelatedElementsFromStackTraceEnabled();
@@ -15,8 +15,6 @@ package org.assertj.core.error;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Lists.list;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -48,11 +46,11 @@ public class AssertionErrorCreator_multipleSoftAssertionsError_Test {
   }
 
   @Test
-  public void should_create_SoftAssertionError_when_MultipleFailuresError_could_not_be_created() throws Exception {
+  public void should_create_SoftAssertionError_when_MultipleFailuresError_could_not_be_created() {
     // GIVEN
     List<? extends AssertionError> errors = list(new AssertionError("error1"), new AssertionError("error2"));
     ConstructorInvoker constructorInvoker = mock(ConstructorInvoker.class);
-    given(constructorInvoker.newInstance(anyString(), any(Class[].class), any(Object[].class))).willThrow(Exception.class);
+    given(constructorInvoker.isNotInClasspath("org.opentest4j.MultipleFailuresError")).willReturn(true);
     assertionErrorCreator.constructorInvoker = constructorInvoker;
     // WHEN
     AssertionError assertionError = assertionErrorCreator.multipleSoftAssertionsError(errors);
@@ -17,8 +17,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.util.Lists.list;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -49,11 +47,11 @@ public class AssertionErrorCreator_tryThrowingMultipleFailuresError_Test {
   }
 
   @Test
-  public void should_not_throw_MultipleFailuresError_when_failing_to_create_it() throws Exception {
+  public void should_not_throw_MultipleFailuresError_when_failing_to_create_it() {
     // GIVEN
     List<? extends AssertionError> errors = list(new AssertionError("error1"), new AssertionError("error2"));
     ConstructorInvoker constructorInvoker = mock(ConstructorInvoker.class);
-    given(constructorInvoker.newInstance(anyString(), any(Class[].class), any(Object[].class))).willThrow(Exception.class);
+    given(constructorInvoker.isNotInClasspath("org.opentest4j.MultipleFailuresError")).willReturn(true);
     assertionErrorCreator.constructorInvoker = constructorInvoker;
     // THEN
     assertThatCode(() -> assertionErrorCreator.tryThrowingMultipleFailuresError(errors)).doesNotThrowAnyException();
@@ -13,6 +13,9 @@
 package org.assertj.core.error;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.lang.reflect.InvocationTargetException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,4 +40,48 @@ public class ConstructorInvoker_newInstance_Test {
     assertThat(o).isInstanceOf(Exception.class);
     assertThat((Exception) o).hasMessage("Hi");
   }
+
+  @Test
+  public void should_create_Object_with_cached_constructor() throws Exception {
+    // GIVEN
+    invoker.newInstance("java.lang.Exception", new Class<?>[] { String.class }, new Object[] { "Hi" });
+    // WHEN
+    Object o = new ConstructorInvoker().newInstance("java.lang.Exception", new Class<?>[] { String.class },
+                                                    new Object[] { "Hello" });
+    // THEN
+    assertThat((Exception) o).hasMessage("Hello");
+  }
+
+  @Test
+  public void should_throw_ClassNotFoundException_each_time_class_is_not_in_classpath() {
+    // WHEN
+    Throwable first = catchThrowable(() -> invoker.newInstance("org.unknown.Error", new Class<?>[0]));
+    Throwable second = catchThrowable(() -> invoker.newInstance("org.unknown.Error", new Class<?>[0]));
+    // THEN
+    assertThat(first).isInstanceOf(ClassNotFoundException.class).hasMessage("org.unknown.Error");
+    assertThat(second).isInstanceOf(ClassNotFoundException.class).hasMessage("org.unknown.Error");
+  }
+
+  @Test
+  public void should_tell_whether_class_is_in_classpath() {
+    assertThat(invoker.isNotInClasspath("org.unknown.Error")).isTrue();
+    assertThat(invoker.isNotInClasspath("org.opentest4j.MultipleFailuresError")).isFalse();
+  }
+
+  @Test
+  public void should_throw_NoSuchMethodException_if_constructor_does_not_exist() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> invoker.newInstance("java.lang.Exception", new Class<?>[] { Integer.class }, 1));
+    // THEN
+    assertThat(thrown).isInstanceOf(NoSuchMethodException.class);
+  }
+
+  @Test
+  public void should_wrap_exception_thrown_by_constructor_in_InvocationTargetException() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> invoker.newInstance("java.lang.Integer", new Class<?>[] { String.class }, "one"));
+    // THEN
+    assertThat(thrown).isInstanceOf(InvocationTargetException.class)
+                      .hasCauseInstanceOf(NumberFormatException.class);
+  }
 }
@@ -18,9 +18,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
 
 import java.io.ByteArrayInputStream;
+import java.util.List;
 
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.description.TextDescription;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.util.diff.Delta;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -49,4 +53,20 @@ public class ShouldHaveSameContent_create_Test {
     assertThat(factory.create(new TextDescription("Test"), new StandardRepresentation())).isEqualTo(expectedErrorMessage);
   }
 
+  @Test
+  public void should_report_the_number_of_omitted_differences() throws Exception {
+    // GIVEN
+    Diff.setMaxDeltasForContentDiff(1);
+    try {
+      List<Delta<String>> diffs = new Diff().diff(new ByteArrayInputStream("a\nb\nc".getBytes()), "A\nb\nC");
+      ErrorMessageFactory factory = shouldHaveSameContent(new ByteArrayInputStream(new byte[] { 'a' }), "b", diffs);
+      // WHEN
+      String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+      // THEN
+      assertThat(message).endsWith(format("%n... and 1 more differences"));
+    } finally {
+      Diff.setMaxDeltasForContentDiff(Configuration.MAX_DELTAS_FOR_CONTENT_DIFF);
+    }
+  }
+
 }
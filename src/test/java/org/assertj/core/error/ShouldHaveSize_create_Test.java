@@ -14,6 +14,7 @@ package org.assertj.core.error;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSizeButHasMoreElements;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import org.assertj.core.description.TextDescription;
@@ -48,4 +49,14 @@ public class ShouldHaveSize_create_Test {
     String message = factory.create(new TextDescription("Test"), new HexadecimalRepresentation());
     assertThat(message).isEqualTo(String.format("[Test] %nExpected size:<2> but was:<4> in:%n<['0x0061', '0x0062']>"));
   }
+
+  @Test
+  public void should_create_error_message_when_actual_has_more_elements_than_expected() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldHaveSizeButHasMoreElements(newArrayList('a', 'b', 'c'), 2);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    assertThat(message).isEqualTo(String.format("[Test] %nExpected size:<2> but had more than <2> elements in:%n<['a', 'b', 'c']>"));
+  }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.DateFields.areInSame;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link DateFields}</code>, the fields must be the ones of <code>{@link Calendar#getInstance()}</code>.
+ */
+public class DateFields_Test {
+
+  private static final String[] TIME_ZONES = { "UTC", "Europe/Paris", "Europe/Amsterdam", "Africa/Monrovia",
+      "America/Sao_Paulo", "Australia/Lord_Howe", "Pacific/Apia" };
+  private static final int[] FIELDS = { Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY,
+      Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND };
+  private static final long MIN_TIME = -4_000_000_000_000L; // 1843
+  private static final long MAX_TIME = 5_000_000_000_000L; // 2128
+
+  private TimeZone defaultTimeZone;
+  private Locale defaultLocale;
+
+  @BeforeEach
+  public void saveDefaults() {
+    defaultTimeZone = TimeZone.getDefault();
+    defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+  }
+
+  @AfterEach
+  public void restoreDefaults() {
+    TimeZone.setDefault(defaultTimeZone);
+    Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+  }
+
+  @Test
+  public void should_compute_the_fields_of_the_default_calendar() {
+    Random random = new Random(42);
+    for (String timeZone : TIME_ZONES) {
+      TimeZone.setDefault(TimeZone.getTimeZone(timeZone));
+      for (int run = 0; run < 2000; run++) {
+        // GIVEN
+        Date date = new Date(MIN_TIME + (long) (random.nextDouble() * (MAX_TIME - MIN_TIME)));
+        // WHEN/THEN
+        assertSameFieldsAsCalendar(date, timeZone);
+      }
+    }
+  }
+
+  @Test
+  public void should_compute_the_fields_of_the_default_calendar_around_time_zone_transitions() {
+    Random random = new Random(42);
+    for (String timeZone : TIME_ZONES) {
+      TimeZone.setDefault(TimeZone.getTimeZone(timeZone));
+      // march and october weeks of the years 1990 to 2030
+      for (int run = 0; run < 2000; run++) {
+        // GIVEN
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(1990 + random.nextInt(40), random.nextBoolean() ? Calendar.MARCH : Calendar.OCTOBER, 24);
+        Date date = new Date(calendar.getTimeInMillis() + (long) (random.nextDouble() * 8 * 24 * 3600 * 1000));
+        // WHEN/THEN
+        assertSameFieldsAsCalendar(date, timeZone);
+      }
+    }
+  }
+
+  @Test
+  public void should_compare_fields_like_the_default_calendar() {
+    Random random = new Random(42);
+    for (String timeZone : TIME_ZONES) {
+      TimeZone.setDefault(TimeZone.getTimeZone(timeZone));
+      for (int run = 0; run < 2000; run++) {
+        // GIVEN
+        Date date1 = new Date(MIN_TIME + (long) (random.nextDouble() * (MAX_TIME - MIN_TIME)));
+        // dates close to each other share some fields
+        Date date2 = new Date(date1.getTime() + (long) Math.pow(10, random.nextInt(11)) * (random.nextInt(3) - 1));
+        for (int lastField : FIELDS) {
+          // WHEN
+          boolean areInSame = areInSame(lastField, date1, date2);
+          // THEN
+          assertThat(areInSame).as("%s and %s up to field %s in %s", date1.getTime(), date2.getTime(), lastField, timeZone)
+                               .isEqualTo(calendarFieldsAreEqual(lastField, date1, date2));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void should_use_the_default_calendar_of_the_locale() {
+    // GIVEN
+    Locale.setDefault(Locale.Category.FORMAT, new Locale("th", "TH"));
+    Date date = new Date();
+    // WHEN
+    int year = DateFields.yearOf(date);
+    // THEN
+    assertThat(year).isEqualTo(Calendar.getInstance().get(Calendar.YEAR));
+  }
+
+  @Test
+  public void should_follow_default_time_zone_changes() {
+    // GIVEN
+    Date date = new Date(0);
+    TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    int utcHour = DateFields.hourOfDayOf(date);
+    // WHEN
+    TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+    // THEN
+    assertThat(utcHour).isEqualTo(0);
+    assertThat(DateFields.hourOfDayOf(date)).isEqualTo(9);
+  }
+
+  private static void assertSameFieldsAsCalendar(Date date, String timeZone) {
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTime(date);
+    String description = date.getTime() + " in " + timeZone;
+    assertThat(DateFields.yearOf(date)).as(description).isEqualTo(calendar.get(Calendar.YEAR));
+    assertThat(DateFields.monthOf(date)).as(description).isEqualTo(calendar.get(Calendar.MONTH) + 1);
+    assertThat(DateFields.dayOfMonthOf(date)).as(description).isEqualTo(calendar.get(Calendar.DAY_OF_MONTH));
+    assertThat(DateFields.dayOfWeekOf(date)).as(description).isEqualTo(calendar.get(Calendar.DAY_OF_WEEK));
+    assertThat(DateFields.hourOfDayOf(date)).as(description).isEqualTo(calendar.get(Calendar.HOUR_OF_DAY));
+    assertThat(DateFields.minuteOf(date)).as(description).isEqualTo(calendar.get(Calendar.MINUTE));
+    assertThat(DateFields.secondOf(date)).as(description).isEqualTo(calendar.get(Calendar.SECOND));
+    assertThat(DateFields.millisecondOf(date)).as(description).isEqualTo(calendar.get(Calendar.MILLISECOND));
+  }
+
+  private static boolean calendarFieldsAreEqual(int lastField, Date date1, Date date2) {
+    Calendar calendar1 = Calendar.getInstance();
+    calendar1.setTime(date1);
+    Calendar calendar2 = Calendar.getInstance();
+    calendar2.setTime(date2);
+    for (int field : FIELDS) {
+      if (calendar1.get(field) != calendar2.get(field)) return false;
+      if (field == lastField) return true;
+    }
+    return true;
+  }
+}
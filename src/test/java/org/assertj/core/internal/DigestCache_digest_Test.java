@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.util.Files.newTemporaryFile;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link DigestCache#digest(Path, MessageDigest, NioFilesWrapper)}</code>.
+ */
+public class DigestCache_digest_Test {
+
+  private DigestCache digestCache;
+  private NioFilesWrapper nioFilesWrapper;
+  private Path file;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    digestCache = new DigestCache(2);
+    nioFilesWrapper = spy(NioFilesWrapper.instance());
+    file = newTemporaryFile().toPath();
+    java.nio.file.Files.write(file, "content".getBytes(UTF_8));
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    java.nio.file.Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void should_read_file_once_for_the_same_algorithm() throws Exception {
+    // WHEN
+    byte[] firstDigest = digestCache.digest(file, MessageDigest.getInstance("MD5"), nioFilesWrapper);
+    byte[] secondDigest = digestCache.digest(file, MessageDigest.getInstance("MD5"), nioFilesWrapper);
+    // THEN
+    assertThat(firstDigest).isEqualTo(md5("content"))
+                           .isEqualTo(secondDigest);
+    verify(nioFilesWrapper, times(1)).newInputStream(any());
+  }
+
+  @Test
+  public void should_only_compute_the_requested_digest() throws Exception {
+    // GIVEN
+    digestCache.digest(file, MessageDigest.getInstance("MD5"), nioFilesWrapper);
+    // WHEN
+    byte[] sha1Digest = digestCache.digest(file, MessageDigest.getInstance("SHA-1"), nioFilesWrapper);
+    // THEN
+    assertThat(sha1Digest).isEqualTo(MessageDigest.getInstance("SHA-1").digest("content".getBytes(UTF_8)));
+    assertThat(digestCache.size()).isEqualTo(2);
+    verify(nioFilesWrapper, times(2)).newInputStream(any());
+  }
+
+  @Test
+  public void should_digest_file_again_when_it_has_been_replaced() throws Exception {
+    // GIVEN
+    digestCache.digest(file, MessageDigest.getInstance("MD5"), nioFilesWrapper);
+    FileTime lastModifiedTime = java.nio.file.Files.getLastModifiedTime(file);
+    Path replacement = newTemporaryFile().toPath();
+    java.nio.file.Files.write(replacement, "CONTENT".getBytes(UTF_8));
+    java.nio.file.Files.setLastModifiedTime(replacement, lastModifiedTime);
+    java.nio.file.Files.move(replacement, file, REPLACE_EXISTING);
+    // WHEN
+    byte[] digest = digestCache.digest(file, MessageDigest.getInstance("MD5"), nioFilesWrapper);
+    // THEN
+    assertThat(digest).isEqualTo(md5("CONTENT"));
+    verify(nioFilesWrapper, times(2)).newInputStream(any());
+  }
+
+  @Test
+  public void should_digest_file_again_when_it_has_been_modified() throws Exception {
+    // GIVEN
+    digestCache.digest(file, MessageDigest.getInstance("MD5"), nioFilesWrapper);
+    java.nio.file.Files.write(file, "modified content".getBytes(UTF_8));
+    java.nio.file.Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+    // WHEN
+    byte[] digest = digestCache.digest(file, MessageDigest.getInstance("MD5"), nioFilesWrapper);
+    // THEN
+    assertThat(digest).isEqualTo(md5("modified content"));
+    verify(nioFilesWrapper, times(2)).newInputStream(any());
+  }
+
+  @Test
+  public void should_evict_least_recently_used_digests() throws Exception {
+    // WHEN
+    digestCache.digest(file, MessageDigest.getInstance("MD5"), nioFilesWrapper);
+    digestCache.digest(file, MessageDigest.getInstance("SHA-1"), nioFilesWrapper);
+    digestCache.digest(file, MessageDigest.getInstance("SHA-256"), nioFilesWrapper);
+    // THEN
+    assertThat(digestCache.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_not_cache_digests_of_files_whose_attributes_cant_be_read() throws Exception {
+    // WHEN
+    digestCache.digest(file, MessageDigest.getInstance("MD5"), new NioFilesWrapper() {
+      @Override
+      public Path toRealPath(Path path) {
+        return null;
+      }
+    });
+    // THEN
+    assertThat(digestCache.size()).isZero();
+  }
+
+  @Test
+  public void should_fail_if_max_size_is_not_strictly_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new DigestCache(0))
+                                        .withMessage("The maximum size of the digest cache must be strictly positive but was 0");
+  }
+
+  private static byte[] md5(String content) throws Exception {
+    return MessageDigest.getInstance("MD5").digest(content.getBytes(UTF_8));
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import org.assertj.core.test.AlwaysEqualComparator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link EquivalenceKey#equivalenceHash(Comparator, Iterable...)}</code>.
+ */
+public class EquivalenceKey_equivalenceHash_Test {
+
+  private final List<Person> persons = newArrayList(new Person("Luke", 1.8, "Tatooine"), null,
+                                                    new Person("Yoda", 0.7, "Dagobah"),
+                                                    new Person("Luke", 1.7, "Tatooine"));
+
+  @Test
+  public void should_give_the_same_hash_to_elements_compared_equal_by_a_field_by_field_comparator() {
+    // GIVEN
+    Person luke = new Person("Luke", 1.8, "Tatooine");
+    // WHEN
+    ToIntFunction<Object> hash = EquivalenceKey.equivalenceHash(new FieldByFieldComparator(), persons, newArrayList(luke));
+    // THEN
+    assertThat(hash).isNotNull();
+    assertThat(hash.applyAsInt(luke)).isEqualTo(hash.applyAsInt(persons.get(0)));
+    assertThat(hash.applyAsInt(luke)).isNotEqualTo(hash.applyAsInt(persons.get(2)));
+  }
+
+  @Test
+  public void should_not_hash_fields_having_a_comparator_by_name() {
+    // GIVEN
+    Map<String, Comparator<?>> comparatorsByName = new HashMap<>();
+    comparatorsByName.put("name", AlwaysEqualComparator.ALWAY_EQUALS_STRING);
+    FieldByFieldComparator comparator = new FieldByFieldComparator(comparatorsByName, null);
+    // WHEN
+    ToIntFunction<Object> hash = EquivalenceKey.equivalenceHash(comparator, persons);
+    // THEN
+    assertThat(hash.applyAsInt(persons.get(0))).isEqualTo(hash.applyAsInt(new Person("Leia", 1.5, "Tatooine")));
+  }
+
+  @Test
+  public void should_not_hash_fields_having_a_comparator_by_type() {
+    // GIVEN
+    TypeComparators comparatorsByType = new TypeComparators();
+    comparatorsByType.put(String.class, AlwaysEqualComparator.ALWAY_EQUALS_STRING);
+    IgnoringFieldsComparator comparator = new IgnoringFieldsComparator(new HashMap<>(), comparatorsByType, "height");
+    // WHEN
+    ToIntFunction<Object> hash = EquivalenceKey.equivalenceHash(comparator, persons);
+    // THEN
+    assertThat(hash).as("only String fields are compared").isNull();
+  }
+
+  @Test
+  public void should_hash_only_compared_fields() {
+    // GIVEN
+    OnFieldsComparator comparator = new OnFieldsComparator("planet");
+    // WHEN
+    ToIntFunction<Object> hash = EquivalenceKey.equivalenceHash(comparator, persons);
+    // THEN
+    assertThat(hash.applyAsInt(persons.get(0))).isEqualTo(hash.applyAsInt(new Person("Leia", 1.5, "Tatooine")));
+  }
+
+  @Test
+  public void should_hash_top_level_fields_with_recursive_comparator() {
+    // GIVEN
+    RecursiveFieldByFieldComparator comparator = new RecursiveFieldByFieldComparator(new HashMap<>(),
+                                                                                     new TypeComparators());
+    // WHEN
+    ToIntFunction<Object> hash = EquivalenceKey.equivalenceHash(comparator, persons);
+    // THEN
+    assertThat(hash.applyAsInt(persons.get(0))).isEqualTo(hash.applyAsInt(new Person("Luke", 1.5, "Tatooine")));
+  }
+
+  @Test
+  public void should_not_hash_elements_of_different_classes() {
+    assertThat(EquivalenceKey.equivalenceHash(new FieldByFieldComparator(), persons, newArrayList("Luke"))).isNull();
+  }
+
+  @Test
+  public void should_not_hash_elements_compared_with_a_comparator_by_type() {
+    // GIVEN
+    TypeComparators comparatorsByType = new TypeComparators();
+    comparatorsByType.put(Person.class, AlwaysEqualComparator.alwaysEqual());
+    Comparator<Object> comparator = new ExtendedByTypesComparator(new FieldByFieldComparator(), comparatorsByType);
+    // WHEN
+    ToIntFunction<Object> hash = EquivalenceKey.equivalenceHash(comparator, persons);
+    // THEN
+    assertThat(hash).isNull();
+  }
+
+  @Test
+  public void should_not_hash_elements_compared_with_a_subclass_of_field_by_field_comparator() {
+    // GIVEN
+    FieldByFieldComparator comparator = new FieldByFieldComparator() {
+      @Override
+      protected boolean areEqual(Object actual, Object other) {
+        return true;
+      }
+    };
+    // WHEN
+    ToIntFunction<Object> hash = EquivalenceKey.equivalenceHash(comparator, persons);
+    // THEN
+    assertThat(hash).isNull();
+  }
+
+  public static class Person {
+
+    public final String name;
+    public final Double height;
+    public final String planet;
+
+    public Person(String name, Double height, String planet) {
+      this.name = name;
+      this.height = height;
+      this.planet = planet;
+    }
+  }
+
+}
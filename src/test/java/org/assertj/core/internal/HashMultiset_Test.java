@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.assertj.core.test.Jedi;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link HashMultiset}</code>.
+ */
+public class HashMultiset_Test {
+
+  @Test
+  public void should_index_elements_compared_with_standard_comparison_strategy() {
+    assertThat(HashMultiset.canIndex(StandardComparisonStrategy.instance(), newArrayList("Luke", null))).isTrue();
+  }
+
+  @Test
+  public void should_not_index_elements_compared_with_a_comparator() {
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    assertThat(HashMultiset.canIndex(comparisonStrategy, newArrayList("Luke"))).isFalse();
+  }
+
+  @Test
+  public void should_not_index_arrays() {
+    assertThat(HashMultiset.canIndex(StandardComparisonStrategy.instance(), newArrayList("Luke"),
+                                     newArrayList("Yoda", new int[0]))).isFalse();
+  }
+
+  @Test
+  public void should_index_elements_compared_with_a_field_by_field_comparator() {
+    // GIVEN
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(new FieldByFieldComparator());
+    List<Jedi> actual = newArrayList(new Jedi("Luke", "green"), null, new Jedi("Yoda", "green"), new Jedi("Luke", "green"));
+    List<Jedi> other = newArrayList(new Jedi("Luke", "green"), null, new Jedi("Luke", "blue"));
+    // WHEN
+    Function<Object, Object> keyFunction = HashMultiset.keyFunction(comparisonStrategy, actual, other);
+    // THEN
+    assertThat(HashMultiset.subtract(actual, other, keyFunction)).containsExactly(actual.get(2), actual.get(3));
+    assertThat(HashMultiset.notIn(other, actual, keyFunction)).containsExactly(other.get(2));
+  }
+
+  @Test
+  public void should_subtract_taking_duplicates_into_account() {
+    assertThat(HashMultiset.subtract(newArrayList("Luke", null, "Yoda", "Luke", null, "Luke"),
+                                     newArrayList("Luke", null, "Leia", "Luke"))).containsExactly("Yoda", null, "Luke");
+  }
+
+  @Test
+  public void should_return_elements_not_in_other_elements() {
+    assertThat(HashMultiset.notIn(newArrayList("Luke", null, "Yoda", "Luke", null, "Leia"),
+                                  newArrayList("Yoda", null))).containsExactly("Luke", "Luke", "Leia");
+  }
+
+}
@@ -138,6 +138,43 @@ public class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  public void should_report_difference_keeping_elements_order_with_null_and_duplicate_elements() {
+    // GIVEN
+    actual = newArrayList("C", null, "A", "B", "A", null, "C");
+    expected = newArrayList("A", "D", null, "C", "D");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).containsExactly("B", "A", null, "C");
+    assertThat(diff.missing).containsExactly("D", "D");
+  }
+
+  @Test
+  public void should_report_difference_according_to_total_order_comparator() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(String.CASE_INSENSITIVE_ORDER);
+    actual = newArrayList("c", null, "a", "B", "A", null, "C");
+    expected = newArrayList("A", "d", null, "c", "D");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).containsExactly("B", "A", null, "C");
+    assertThat(diff.missing).containsExactly("d", "D");
+  }
+
+  @Test
+  public void should_report_difference_between_arrays_elements() {
+    // GIVEN
+    List<Object> actual = newArrayList(new int[] { 1 }, new String[] { "a" });
+    List<Object> expected = newArrayList(new String[] { "a" }, new int[] { 2 });
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).containsExactly(new int[] { 1 });
+    assertThat(diff.missing).containsExactly(new int[] { 2 });
+  }
+
   private class Foo {
   }
 
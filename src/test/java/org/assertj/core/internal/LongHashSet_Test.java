@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link LongHashSet}</code>.
+ */
+public class LongHashSet_Test {
+
+  @Test
+  public void should_add_elements_once() {
+    // GIVEN
+    LongHashSet set = new LongHashSet(3);
+    // WHEN
+    boolean added = set.add(0);
+    boolean addedAgain = set.add(0);
+    set.add(Long.MIN_VALUE);
+    // THEN
+    assertThat(added).isTrue();
+    assertThat(addedAgain).isFalse();
+    assertThat(set.size()).isEqualTo(2);
+    assertThat(set.contains(0)).isTrue();
+    assertThat(set.contains(Long.MIN_VALUE)).isTrue();
+    assertThat(set.contains(1)).isFalse();
+  }
+
+  @Test
+  public void should_hold_the_given_number_of_elements_with_distinct_slots() {
+    // GIVEN
+    LongHashSet set = new LongHashSet(1000);
+    // WHEN
+    for (long i = 0; i < 1000; i++) {
+      set.add(i << 20);
+    }
+    // THEN
+    boolean[] usedSlots = new boolean[set.capacity()];
+    for (long i = 0; i < 1000; i++) {
+      int slot = set.slotOf(i << 20);
+      assertThat(usedSlots[slot]).isFalse();
+      usedSlots[slot] = true;
+    }
+    assertThat(set.size()).isEqualTo(1000);
+    assertThat(set.slotOf(1)).isEqualTo(-1);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ComparatorOrder.TOTAL_ORDER;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link SortedMultiset}</code>.
+ */
+public class SortedMultiset_Test {
+
+  @Test
+  public void should_sort_elements_compared_with_a_comparator_declared_as_total_order() {
+    // GIVEN
+    Comparator<String> comparator = Comparator.comparing(String::length);
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(comparator, null, TOTAL_ORDER);
+    // WHEN
+    Comparator<?> totalOrderComparator = SortedMultiset.totalOrderComparatorOf(comparisonStrategy);
+    // THEN
+    assertThat(totalOrderComparator).isSameAs(comparator);
+  }
+
+  @Test
+  public void should_not_sort_elements_compared_with_a_comparator_not_declared_as_total_order() {
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    assertThat(SortedMultiset.totalOrderComparatorOf(comparisonStrategy)).isNull();
+    assertThat(SortedMultiset.totalOrderComparatorOf(StandardComparisonStrategy.instance())).isNull();
+  }
+
+  @Test
+  public void should_subtract_taking_duplicates_into_account() {
+    assertThat(SortedMultiset.subtract(newArrayList("Luke", null, "Yoda", "LUKE", null, "luke"),
+                                       newArrayList("luke", null, "Leia", "Luke"),
+                                       CASE_INSENSITIVE_ORDER)).containsExactly("Yoda", null, "luke");
+  }
+
+  @Test
+  public void should_return_elements_not_in_other_elements() {
+    assertThat(SortedMultiset.notIn(newArrayList("Luke", null, "Yoda", "LUKE", null, "Leia"),
+                                    newArrayList("yoda", null),
+                                    CASE_INSENSITIVE_ORDER)).containsExactly("Luke", "LUKE", "Leia");
+  }
+
+}
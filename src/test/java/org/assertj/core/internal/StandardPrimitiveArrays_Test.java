@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.internal.StandardPrimitiveArrays.containsAll;
+import static org.assertj.core.internal.StandardPrimitiveArrays.containsExactly;
+import static org.assertj.core.internal.StandardPrimitiveArrays.containsNone;
+import static org.assertj.core.internal.StandardPrimitiveArrays.containsOnly;
+import static org.assertj.core.internal.StandardPrimitiveArrays.containsSequence;
+import static org.assertj.core.internal.StandardPrimitiveArrays.hasNoDuplicates;
+import static org.assertj.core.internal.StandardPrimitiveArrays.isSorted;
+import static org.assertj.core.internal.StandardPrimitiveArrays.supports;
+import static org.assertj.core.test.TestData.someInfo;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link StandardPrimitiveArrays}</code>.
+ */
+public class StandardPrimitiveArrays_Test {
+
+  @Test
+  public void should_support_int_long_and_double_arrays_of_the_same_type() {
+    assertThat(supports(new int[0], new int[0])).isTrue();
+    assertThat(supports(new long[0], new long[0])).isTrue();
+    assertThat(supports(new double[0], new double[0])).isTrue();
+    assertThat(supports(new int[0], new long[0])).isFalse();
+    assertThat(supports(new float[0], new float[0])).isFalse();
+    assertThat(supports(new Integer[0], new Integer[0])).isFalse();
+    assertThat(supports(null, new int[0])).isFalse();
+  }
+
+  @Test
+  public void should_check_membership() {
+    int[] actual = { 1, 2, 3, 2 };
+    assertThat(containsAll(actual, new int[] { 2, 3, 2 })).isTrue();
+    assertThat(containsAll(actual, new int[] { 2, 4 })).isFalse();
+    assertThat(containsNone(actual, new int[] { 4, 5 })).isTrue();
+    assertThat(containsNone(actual, new int[] { 4, 1 })).isFalse();
+    assertThat(containsOnly(actual, new int[] { 3, 2, 1, 1 })).isTrue();
+    assertThat(containsOnly(actual, new int[] { 3, 2 })).isFalse();
+    assertThat(containsOnly(actual, new int[] { 3, 2, 1, 4 })).isFalse();
+  }
+
+  @Test
+  public void should_check_membership_of_long_values_differing_in_high_bits() {
+    long[] actual = { 1L, 1L << 32 };
+    assertThat(containsAll(actual, new long[] { 1L << 32 })).isTrue();
+    assertThat(containsAll(actual, new long[] { 1L << 33 })).isFalse();
+  }
+
+  @Test
+  public void should_compare_doubles_like_Double_equals() {
+    double[] actual = { Double.NaN, 0.0 };
+    assertThat(containsAll(actual, new double[] { Double.NaN })).isTrue();
+    assertThat(containsAll(actual, new double[] { -0.0 })).isFalse();
+    assertThat(containsExactly(actual, new double[] { Double.NaN, 0.0 })).isTrue();
+    assertThat(containsExactly(actual, new double[] { Double.NaN, -0.0 })).isFalse();
+    assertThat(hasNoDuplicates(new double[] { 0.0, -0.0 })).isTrue();
+    assertThat(hasNoDuplicates(new double[] { Double.NaN, Double.NaN })).isFalse();
+  }
+
+  @Test
+  public void should_check_sequence() {
+    long[] actual = { 1, 2, 1, 2, 3 };
+    assertThat(containsSequence(actual, new long[] { 1, 2, 3 })).isTrue();
+    assertThat(containsSequence(actual, new long[] { 2, 3, 4 })).isFalse();
+    assertThat(containsSequence(actual, new long[] { 1, 2, 1, 2, 3, 4 })).isFalse();
+  }
+
+  @Test
+  public void should_check_order_like_compareTo() {
+    assertThat(isSorted(new int[] { 1, 1, 2 })).isTrue();
+    assertThat(isSorted(new long[] { 2, 1 })).isFalse();
+    assertThat(isSorted(new double[] { -0.0, 0.0, Double.NaN })).isTrue();
+    assertThat(isSorted(new double[] { 0.0, -0.0 })).isFalse();
+  }
+
+  @Test
+  public void should_still_report_failures_with_generic_code() {
+    // GIVEN
+    int[] actual = new int[100_000];
+    for (int i = 0; i < actual.length; i++) {
+      actual[i] = i;
+    }
+    IntArrays intArrays = new IntArrays();
+    // WHEN
+    intArrays.assertContains(someInfo(), actual, new int[] { 99_999, 5 });
+    intArrays.assertIsSorted(someInfo(), actual);
+    intArrays.assertDoesNotHaveDuplicates(someInfo(), actual);
+    // THEN
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> intArrays.assertContains(someInfo(), actual,
+                                                                                              new int[] { 5, -1 }))
+                                                   .withMessageContaining("<[-1]>");
+  }
+}
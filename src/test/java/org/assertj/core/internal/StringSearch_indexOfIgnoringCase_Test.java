@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.StringSearch.indexOfIgnoringCase;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link StringSearch#indexOfIgnoringCase(String, String, int)}</code>.
+ */
+public class StringSearch_indexOfIgnoringCase_Test {
+
+  @Test
+  public void should_find_sequence_ignoring_case() {
+    assertThat(indexOfIgnoringCase("Yoda and Luke", "LUKE", 0)).isEqualTo(9);
+    assertThat(indexOfIgnoringCase("Yoda and Luke", "yoda", 0)).isEqualTo(0);
+    assertThat(indexOfIgnoringCase("ΣΊΣΥΦΟΣ", "σίσυφος", 0)).isEqualTo(0);
+  }
+
+  @Test
+  public void should_find_sequence_from_the_given_index() {
+    assertThat(indexOfIgnoringCase("abcABCabc", "abc", 1)).isEqualTo(3);
+    assertThat(indexOfIgnoringCase("abcABCabc", "abc", 7)).isEqualTo(-1);
+    assertThat(indexOfIgnoringCase("abcABCabc", "abc", -1)).isEqualTo(0);
+  }
+
+  @Test
+  public void should_not_find_sequence_longer_than_string() {
+    assertThat(indexOfIgnoringCase("Yo", "Yoda", 0)).isEqualTo(-1);
+  }
+
+  @Test
+  public void should_find_empty_sequence_like_String_indexOf() {
+    assertThat(indexOfIgnoringCase("Yoda", "", 2)).isEqualTo("Yoda".indexOf("", 2));
+    assertThat(indexOfIgnoringCase("Yoda", "", 10)).isEqualTo("Yoda".indexOf("", 10));
+  }
+
+  @Test
+  public void should_find_chars_sharing_the_same_shift_table_entry() {
+    // 'a' and 'š' have the same low 8 bits
+    assertThat(indexOfIgnoringCase("xxšab", "šab", 0)).isEqualTo(2);
+    assertThat(indexOfIgnoringCase("xxaab", "šab", 0)).isEqualTo(-1);
+  }
+
+  @Test
+  public void should_find_the_same_index_as_region_matches_ignoring_case() {
+    Random random = new Random(42);
+    for (int run = 0; run < 1000; run++) {
+      // GIVEN
+      String string = randomString(random, 40);
+      String sequence = randomString(random, 4);
+      int fromIndex = random.nextInt(10);
+      // WHEN
+      int index = indexOfIgnoringCase(string, sequence, fromIndex);
+      // THEN
+      assertThat(index).as("'%s' in '%s' from %s", sequence, string, fromIndex)
+                       .isEqualTo(regionMatchesIndexOf(string, sequence, fromIndex));
+    }
+  }
+
+  private static int regionMatchesIndexOf(String string, String sequence, int fromIndex) {
+    for (int i = fromIndex; i <= string.length() - sequence.length(); i++) {
+      if (string.regionMatches(true, i, sequence, 0, sequence.length())) return i;
+    }
+    return sequence.isEmpty() ? Math.min(fromIndex, string.length()) : -1;
+  }
+
+  private static String randomString(Random random, int maxLength) {
+    char[] chars = { 'a', 'A', 'b', 'B', 'š', 'Š' };
+    StringBuilder string = new StringBuilder();
+    int length = random.nextInt(maxLength + 1);
+    for (int i = 0; i < length; i++) {
+      string.append(chars[random.nextInt(chars.length)]);
+    }
+    return string.toString();
+  }
+}
@@ -95,6 +95,41 @@ public class TypeComparators_Test {
     assertThat(i5).isNull();
   }
 
+  @Test
+  public void should_find_comparator_registered_after_a_failed_lookup() {
+    // GIVEN
+    Comparator<I3> i3Comparator = newComparator();
+    assertThat(typeComparators.get(Bar.class)).isNull();
+    // WHEN
+    typeComparators.put(I3.class, i3Comparator);
+    // THEN
+    assertThat(typeComparators.get(Bar.class)).isSameAs(i3Comparator);
+  }
+
+  @Test
+  public void should_find_more_relevant_comparator_registered_after_a_lookup() {
+    // GIVEN
+    Comparator<I3> i3Comparator = newComparator();
+    Comparator<Bar> barComparator = newComparator();
+    typeComparators.put(I3.class, i3Comparator);
+    assertThat(typeComparators.get(Bar.class)).isSameAs(i3Comparator);
+    // WHEN
+    typeComparators.put(Bar.class, barComparator);
+    // THEN
+    assertThat(typeComparators.get(Bar.class)).isSameAs(barComparator);
+  }
+
+  @Test
+  public void should_find_no_comparator_after_clear() {
+    // GIVEN
+    typeComparators.put(Foo.class, newComparator());
+    assertThat(typeComparators.get(Foo.class)).isNotNull();
+    // WHEN
+    typeComparators.clear();
+    // THEN
+    assertThat(typeComparators.get(Foo.class)).isNull();
+  }
+
   @Test
   public void should_be_empty() {
     typeComparators.clear();
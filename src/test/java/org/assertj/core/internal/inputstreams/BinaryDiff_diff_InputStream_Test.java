@@ -79,6 +79,69 @@ public class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  public void should_return_no_diff_if_large_inputstreams_have_equal_content() throws IOException {
+    actual = new ByteArrayInputStream(bytes(8192 * 3));
+    expected = new ByteArrayInputStream(bytes(8192 * 3));
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_first_diff_of_large_inputstreams() throws IOException {
+    byte[] actualContent = bytes(20000);
+    actualContent[10005] = (byte) 0xCA;
+    actualContent[10006] = (byte) 0xFE;
+    actual = new ByteArrayInputStream(actualContent);
+    expected = new ByteArrayInputStream(bytes(20000));
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(10005);
+    assertThat(result.actual).isEqualTo("0xCA");
+    assertThat(result.expected).isEqualTo("0x15");
+  }
+
+  @Test
+  public void should_return_diff_if_actual_ends_at_a_block_boundary() throws IOException {
+    actual = new ByteArrayInputStream(bytes(8192));
+    expected = new ByteArrayInputStream(bytes(8193));
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(8192);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0x0");
+  }
+
+  @Test
+  public void should_compare_inputstreams_returning_less_bytes_than_requested() throws IOException {
+    byte[] expectedContent = bytes(10000);
+    expectedContent[9999] = 0x7F;
+    actual = new OneByteAtATimeInputStream(bytes(10000));
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(9999);
+    assertThat(result.actual).isEqualTo("0xF");
+    assertThat(result.expected).isEqualTo("0x7F");
+  }
+
+  private static byte[] bytes(int length) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) i;
+    }
+    return bytes;
+  }
+
+  private static class OneByteAtATimeInputStream extends ByteArrayInputStream {
+
+    OneByteAtATimeInputStream(byte[] content) {
+      super(content);
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) {
+      return super.read(b, off, Math.min(len, 1));
+    }
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -22,6 +22,7 @@ import java.io.UnsupportedEncodingException;
 import java.util.List;
 
 import org.assertj.core.internal.Diff;
+import org.assertj.core.internal.Diff.TruncatedDeltas;
 import org.assertj.core.util.diff.Delta;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -121,4 +122,37 @@ public class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  public void should_report_diff_lines_relative_to_the_start_of_the_content_when_there_is_a_common_prefix_and_suffix() throws IOException {
+    actual = stream("line_0", "line_1", "line_2", "line_3", "line_4", "line_5");
+    expected = stream("line_0", "line_1", "line2", "line_4", "line_5");
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 3:%n"
+                                                + "expecting:%n"
+                                                + "  [\"line2\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"line_2\",%n"
+                                                + "   \"line_3\"]%n"));
+  }
+
+  @Test
+  public void should_only_return_the_given_maximum_number_of_diffs() throws IOException {
+    // GIVEN
+    Diff diffWithMaxDeltas = new Diff(1);
+    actual = stream("base", "line_0", "line1", "line_2");
+    expected = stream("base", "line0", "line1", "line2");
+    // WHEN
+    List<Delta<String>> diffs = diffWithMaxDeltas.diff(actual, expected);
+    // THEN
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 2:%n"
+                                                + "expecting:%n"
+                                                + "  [\"line0\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"line_0\"]%n"));
+    assertThat(diffs).isInstanceOf(TruncatedDeltas.class);
+    assertThat(((TruncatedDeltas) diffs).getOmittedDeltasCount()).isEqualTo(1);
+  }
 }
@@ -125,6 +125,28 @@ public class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBas
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_contains_given_array_values_in_different_order() {
+    Iterable<Object> actual = newArrayList(new int[] { 1, 2 }, new String[] { "Luke" });
+    iterables.assertContainsExactlyInAnyOrder(someInfo(), actual, array(new String[] { "Luke" }, new int[] { 1, 2 }));
+  }
+
+  @Test
+  public void should_report_first_unmatched_duplicates_in_order() {
+    AssertionInfo info = someInfo();
+    actual = newArrayList("Luke", "Yoda", "Leia", "Luke", "Yoda", "Luke");
+    Object[] expected = { "Yoda", "Luke", "Han", "Han", "Leia" };
+    try {
+      iterables.assertContainsExactlyInAnyOrder(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainExactlyInAnyOrder(actual, expected, newArrayList("Han", "Han"),
+                                                                    newArrayList("Luke", "Yoda", "Luke"),
+                                                                    StandardComparisonStrategy.instance()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
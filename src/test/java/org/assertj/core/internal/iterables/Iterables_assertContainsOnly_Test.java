@@ -133,6 +133,27 @@ public class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_contains_given_array_values_only() {
+    Iterable<Object> actual = newArrayList(new int[] { 1, 2 }, new String[] { "Luke" }, new int[] { 1, 2 });
+    iterables.assertContainsOnly(someInfo(), actual, array(new String[] { "Luke" }, new int[] { 1, 2 }));
+  }
+
+  @Test
+  public void should_report_all_unexpected_duplicates_in_actual_order() {
+    AssertionInfo info = someInfo();
+    actual.addAll(newArrayList("Han", "Luke", "Han"));
+    Object[] expected = { "Luke", "Yoda", "Obiwan", "Obiwan" };
+    try {
+      iterables.assertContainsOnly(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainOnly(actual, expected, newArrayList("Obiwan", "Obiwan"),
+                                                       newArrayList("Leia", "Han", "Han")));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
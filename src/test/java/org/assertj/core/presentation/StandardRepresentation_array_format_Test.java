@@ -14,8 +14,11 @@ package org.assertj.core.presentation;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Strings.quote;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -208,4 +211,70 @@ public class StandardRepresentation_array_format_Test extends AbstractBaseRepres
     }
   }
 
+  @Test
+  public void should_format_nested_arrays_on_one_line_if_description_is_just_short_enough() {
+    // GIVEN
+    Object[] array = { "a", new Object[] { "b", "c" } };
+    StandardRepresentation.setMaxLengthForSingleLineDescription("[\"a\", [\"b\", \"c\"]]".length() + 1);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.formatArray(array);
+    // THEN
+    assertThat(formatted).isEqualTo("[\"a\", [\"b\", \"c\"]]");
+  }
+
+  @Test
+  public void should_format_nested_arrays_on_multiple_lines_if_description_has_the_maximum_length() {
+    // GIVEN
+    Object[] array = { "a", new Object[] { "b", "c" } };
+    StandardRepresentation.setMaxLengthForSingleLineDescription("[\"a\", [\"b\", \"c\"]]".length());
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.formatArray(array);
+    // THEN
+    assertThat(formatted).isEqualTo(format("[\"a\",%n    [\"b\",%n    \"c\"]]"));
+  }
+
+  @Test
+  public void should_format_array_containing_itself_on_multiple_lines_if_description_is_too_long() {
+    // GIVEN
+    Object[] array = new Object[2];
+    array[0] = array;
+    array[1] = "a";
+    StandardRepresentation.setMaxLengthForSingleLineDescription(5);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.formatArray(array);
+    // THEN
+    assertThat(formatted).isEqualTo(format("[(this array),%n    \"a\"]"));
+  }
+
+  @Test
+  public void should_use_overridden_single_line_format_of_arrays() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Object[] iterable, Set<Object[]> alreadyFormatted) {
+        return format(iterable, " | ", "", alreadyFormatted);
+      }
+    };
+    // WHEN
+    String formatted = representation.formatArray(array("a", "b"));
+    // THEN
+    assertThat(formatted).isEqualTo("[\"a\" | \"b\"]");
+  }
+
+  @Test
+  public void should_use_overridden_format_for_nested_arrays() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String format(Object[] array, String elementSeparator, String indentation,
+                              Set<Object[]> alreadyFormatted) {
+        return array.length == 1 ? "single" : super.format(array, elementSeparator, indentation, alreadyFormatted);
+      }
+    };
+    Object[] array = { "a", new Object[] { "b" } };
+    // WHEN
+    String formatted = representation.formatArray(array);
+    // THEN
+    assertThat(formatted).isEqualTo("[\"a\", single]");
+  }
 }
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -114,4 +115,78 @@ public class StandardRepresentation_iterable_format_Test extends AbstractBaseRep
     return Stream.generate(() -> "a").limit(length).collect(joining());
   }
 
+  @Test
+  public void should_stop_formatting_iterable_to_a_single_line_once_description_is_too_long() {
+    // GIVEN
+    StandardRepresentation.setMaxLengthForSingleLineDescription(20);
+    List<Object> elements = new ArrayList<>();
+    AtomicInteger toStringCalls = new AtomicInteger();
+    for (int i = 0; i < 100; i++) {
+      int element = i;
+      elements.add(new Object() {
+        @Override
+        public String toString() {
+          toStringCalls.incrementAndGet();
+          return String.valueOf(element);
+        }
+      });
+    }
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.smartFormat(elements);
+    // THEN
+    assertThat(formatted).isEqualTo(STANDARD_REPRESENTATION.multiLineFormat(asList(elements.toArray())));
+    // 100 calls for each multi line description, only a few for the single line one
+    assertThat(toStringCalls).hasValueLessThan(210);
+  }
+
+  @Test
+  public void should_format_iterable_on_one_line_if_description_is_just_short_enough() {
+    // GIVEN
+    StandardRepresentation.setMaxLengthForSingleLineDescription("[\"a\", \"b\"]".length() + 1);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.smartFormat(asList("a", "b"));
+    // THEN
+    assertThat(formatted).isEqualTo("[\"a\", \"b\"]");
+  }
+
+  @Test
+  public void should_format_iterable_on_multiple_lines_if_description_has_the_maximum_length() {
+    // GIVEN
+    StandardRepresentation.setMaxLengthForSingleLineDescription("[\"a\", \"b\"]".length());
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.smartFormat(asList("a", "b"));
+    // THEN
+    assertThat(formatted).isEqualTo(format("[\"a\",%n    \"b\"]"));
+  }
+
+  @Test
+  public void should_use_overridden_single_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
+        return format(iterable, "<", ">", " | ", "");
+      }
+    };
+    // WHEN
+    String formatted = representation.smartFormat(asList("a", "b"));
+    // THEN
+    assertThat(formatted).isEqualTo("<\"a\" | \"b\">");
+  }
+
+  @Test
+  public void should_format_iterable_on_multiple_lines_if_overridden_single_line_format_is_too_long() {
+    // GIVEN
+    StandardRepresentation.setMaxLengthForSingleLineDescription(10);
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
+        return "single line description too long";
+      }
+    };
+    // WHEN
+    String formatted = representation.smartFormat(asList("a", "b"));
+    // THEN
+    assertThat(formatted).isEqualTo(representation.multiLineFormat(asList("a", "b")));
+  }
 }
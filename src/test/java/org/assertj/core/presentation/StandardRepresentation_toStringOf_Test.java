@@ -319,4 +319,29 @@ public class StandardRepresentation_toStringOf_Test extends AbstractBaseRepresen
     }
   }
 
+  @Test
+  public void should_format_subtypes_like_their_supertype() {
+    // GIVEN
+    java.sql.Date sqlDate = new java.sql.Date(0);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(sqlDate);
+    // THEN
+    assertThat(formatted).isEqualTo(STANDARD_REPRESENTATION.toStringOf(new Date(0)));
+  }
+
+  @Test
+  public void should_use_the_overridden_formatting_of_each_representation() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String toStringOf(Date date) {
+        return "overridden date";
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(new Date(0));
+    // THEN
+    assertThat(formatted).isEqualTo("overridden date");
+    assertThat(STANDARD_REPRESENTATION.toStringOf(new Date(0))).isNotEqualTo("overridden date");
+  }
 }
@@ -18,6 +18,7 @@ import static org.assertj.core.util.introspection.Introspection.getPropertyGette
 
 import java.lang.reflect.Method;
 
+import org.assertj.core.util.introspection.Introspection;
 import org.assertj.core.util.introspection.IntrospectionError;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,6 +63,31 @@ public class Introspection_getProperty_Test {
                                                        .withMessage("No public getter for property 'name' in org.assertj.core.util.Introspection_getProperty_Test$Example");
   }
 
+  @Test
+  public void should_return_the_same_getter_for_instances_of_the_same_class() {
+    Method getter = getPropertyGetter("age", judy);
+    assertThat(getPropertyGetter("age", new Employee(10.0, 20))).isSameAs(getter);
+  }
+
+  @Test
+  public void should_honor_bare_name_property_methods_setting_once_getter_has_been_resolved() {
+    assertThat(getPropertyGetter("city", new BareNameExample())).isNotNull();
+    try {
+      Introspection.setExtractBareNamePropertyMethods(false);
+      assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> getPropertyGetter("city", new BareNameExample()))
+                                                         .withMessage("No getter for property 'city' in org.assertj.core.util.Introspection_getProperty_Test$BareNameExample");
+    } finally {
+      Introspection.setExtractBareNamePropertyMethods(true);
+    }
+    assertThat(getPropertyGetter("city", new BareNameExample())).isNotNull();
+  }
+
+  public static class BareNameExample {
+    public String city() {
+      return "Paris";
+    }
+  }
+
   public static class Example extends Super {
   }
 
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+public class LinearSpaceMyersDiff_Test {
+
+  @Test
+  public void should_find_insert_delete_and_change_deltas() {
+    // GIVEN
+    List<String> original = newArrayList("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = newArrayList("aaa", "zzz", "ccc", "eee", "fff");
+    // WHEN
+    List<Delta<String>> deltas = new LinearSpaceMyersDiff<String>().diff(original, revised).getDeltas();
+    // THEN
+    assertThat(deltas).containsExactly(new ChangeDelta<>(new Chunk<>(1, newArrayList("bbb")),
+                                                         new Chunk<>(1, newArrayList("zzz"))),
+                                       new DeleteDelta<>(new Chunk<>(3, newArrayList("ddd")),
+                                                         new Chunk<>(3, emptyList())),
+                                       new InsertDelta<>(new Chunk<>(5, emptyList()),
+                                                         new Chunk<>(4, newArrayList("fff"))));
+  }
+
+  @Test
+  public void should_find_as_many_changes_as_the_default_algorithm() {
+    Random random = new Random(42);
+    for (int run = 0; run < 200; run++) {
+      // GIVEN
+      List<String> original = randomLines(random);
+      List<String> revised = randomLines(random);
+      // WHEN
+      Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(original, revised);
+      // THEN
+      assertThat(DiffUtils.patch(original, patch)).isEqualTo(revised);
+      assertThat(changedLines(patch)).isEqualTo(changedLines(new MyersDiff<String>().diff(original, revised)));
+    }
+  }
+
+  @Test
+  public void should_diff_large_inputs_given_as_linked_lists() {
+    // GIVEN
+    List<String> original = new LinkedList<>();
+    for (int i = 0; i < 200_000; i++) {
+      original.add("line " + i);
+    }
+    List<String> revised = new LinkedList<>(original);
+    revised.set(10, "changed");
+    revised.remove(100_000);
+    revised.add(150_000, "added");
+    // WHEN
+    List<Delta<String>> deltas = DiffUtils.diff(original, revised).getDeltas();
+    // THEN
+    assertThat(deltas).containsExactly(new ChangeDelta<>(new Chunk<>(10, newArrayList("line 10")),
+                                                         new Chunk<>(10, newArrayList("changed"))),
+                                       new DeleteDelta<>(new Chunk<>(100_000, newArrayList("line 100000")),
+                                                         new Chunk<>(100_000, emptyList())),
+                                       new InsertDelta<>(new Chunk<>(150_001, emptyList()),
+                                                         new Chunk<>(150_000, newArrayList("added"))));
+  }
+
+  private static List<String> randomLines(Random random) {
+    int size = random.nextInt(30);
+    List<String> lines = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      lines.add(String.valueOf((char) ('a' + random.nextInt(4))));
+    }
+    return lines;
+  }
+
+  private static int changedLines(Patch<String> patch) {
+    int changedLines = 0;
+    for (Delta<String> delta : patch.getDeltas()) {
+      changedLines += delta.getOriginal().size() + delta.getRevised().size();
+    }
+    return changedLines;
+  }
+}
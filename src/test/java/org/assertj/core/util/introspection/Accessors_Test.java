@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2019 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Accessors}</code>.
+ */
+public class Accessors_Test {
+
+  @Test
+  public void should_invoke_getter() throws Exception {
+    Method getter = Person.class.getMethod("getAge");
+    assertThat(Accessors.invokeGetter(getter, new Person(12))).isEqualTo(12);
+    assertThat(Accessors.invokeGetter(getter, new Person(34))).isEqualTo(34);
+  }
+
+  @Test
+  public void should_wrap_exception_thrown_by_getter_like_reflection_does() throws Exception {
+    Method getter = Person.class.getMethod("getName");
+    // WHEN
+    Throwable throwable = catchThrowable(() -> Accessors.invokeGetter(getter, new Person(12)));
+    // THEN
+    assertThat(throwable).isInstanceOf(InvocationTargetException.class)
+                         .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void should_read_private_field_made_accessible() throws Exception {
+    Field field = Person.class.getDeclaredField("age");
+    field.setAccessible(true);
+    assertThat(Accessors.readField(field, new Person(12))).isEqualTo(12);
+  }
+
+  @Test
+  public void should_read_static_field_ignoring_target() throws Exception {
+    Field field = Person.class.getField("SPECIES");
+    assertThat(Accessors.readField(field, new Person(12))).isEqualTo("human");
+    assertThat(Accessors.readField(field, null)).isEqualTo("human");
+  }
+
+  @Test
+  public void should_fail_to_read_a_non_accessible_private_field() throws Exception {
+    Field field = Private.class.getDeclaredField("secret");
+    // WHEN
+    Throwable throwable = catchThrowable(() -> Accessors.readField(field, new Private()));
+    // THEN
+    assertThat(throwable).isInstanceOf(IllegalAccessException.class);
+  }
+
+  public static class Person {
+    public static final String SPECIES = "human";
+    private final int age;
+
+    Person(int age) {
+      this.age = age;
+    }
+
+    public int getAge() {
+      return age;
+    }
+
+    public String getName() {
+      throw new IllegalStateException("no name");
+    }
+  }
+
+  private static class Private {
+    @SuppressWarnings("unused")
+    private String secret = "secret";
+  }
+}